@@ -4,6 +4,8 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
+import io.github.freeze.log.AsyncFileSink;
+import io.github.freeze.log.Log;
 import io.github.freeze.net.Net;
 import io.github.freeze.screens.FirstScreen;
 
@@ -16,13 +18,10 @@ public class Core extends Game {
     @Override 
     public void create() {
         batch = new SpriteBatch();
-        try {
-            // ★ 서버 주소 (포트 9090)
-            Net.get().connect("ws://203.234.62.48:9090/ws");
-            Gdx.app.log("CORE", "Connecting to server...");
-        } catch (Exception e) {
-            Gdx.app.error("NET", "connect failed", e);
-        }
+        setupLogging();
+        // ★ 후보 서버 중 가장 가까운 곳으로 (Net.DEFAULT_ENDPOINTS, 끊기면 Net이 알아서 재연결)
+        Net.get().connectBest();
+        Log.info("CORE", "Connecting to server...");
         setScreen(new FirstScreen(this));
     }
 
@@ -31,10 +30,24 @@ public class Core extends Game {
         if (batch != null) batch.dispose();
         Net.get().close();  // ★ 서버 연결 종료
         super.dispose();
+        Log.shutdown();  // 남은 로그 파일에 기록
+    }
+    
+    // ★ 로그: 기본 INFO, 매 틱 태그는 샘플링, 파일은 1MB씩 3개까지
+    private void setupLogging() {
+        Log.setDefaultLevel(Log.INFO);
+        Log.setSampling("MOVE", 50);
+        try {
+            Log.setFileSink(new AsyncFileSink(Gdx.files.local("logs/freeze.log").file(), 1024 * 1024, 3));
+        } catch (Exception e) {
+            Log.error("CORE", "log file disabled", e);
+        }
     }
     
     @Override
     public void render() {
         super.render();
+        Net.get().drainEventsIfIdle();  // ★ 화면이 직접 처리하지 않은 수신 이벤트
+        Net.get().flushFrame();  // ★ 이번 프레임에 모인 송신 메시지를 한 번에
     }
 }
@@ -1,11 +1,12 @@
 package io.github.freeze.game;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 
+import io.github.freeze.log.Log;
+
 /**
  * 안개 효과 클래스 (Chaser 화면 전용)
  * Runner가 안개 스킬 사용 시 Chaser 화면에 표시됨
@@ -70,7 +71,7 @@ public class FogEffect {
             state = State.FADING_IN;
             animTime = 0f;
             fullTimer = 0f;
-            Gdx.app.log("FOG", "안개 효과 시작!");
+            Log.info("FOG", "안개 효과 시작!");
         }
     }
     
@@ -87,7 +88,7 @@ public class FogEffect {
                 if (fadeInAnim.isAnimationFinished(animTime)) {
                     state = State.FULL;
                     fullTimer = 0f;
-                    Gdx.app.log("FOG", "안개 최대!");
+                    Log.info("FOG", "안개 최대!");
                 }
                 break;
                 
@@ -96,7 +97,7 @@ public class FogEffect {
                 if (fullTimer >= fullDuration) {
                     state = State.FADING_OUT;
                     animTime = 0f;
-                    Gdx.app.log("FOG", "안개 사라지는 중...");
+                    Log.info("FOG", "안개 사라지는 중...");
                 }
                 break;
                 
@@ -104,7 +105,7 @@ public class FogEffect {
                 animTime += delta;
                 if (fadeOutAnim.isAnimationFinished(animTime)) {
                     state = State.INACTIVE;
-                    Gdx.app.log("FOG", "안개 효과 종료!");
+                    Log.info("FOG", "안개 효과 종료!");
                 }
                 break;
         }
@@ -0,0 +1,112 @@
+package io.github.freeze.game;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * 내 이동 입력 기록 (서버 권위 이동 모드, 렌더 스레드 전용)
+ * - 고정 스텝(STEP초)마다 입력 하나, seq는 1부터 증가
+ * - 서버가 확인(ack)한 seq까지 버리고, 나머지는 보정 시 다시 적용
+ * - 같은 방향·속도로 이어진 스텝은 한 구간(run)으로 묶어서 전송
+ * - 원형 배열 (할당 없음), 가득 차면 가장 오래된 것부터 버림
+ */
+public final class InputHistory {
+    public static final float STEP = 1f / 60f;
+
+    private final int[] seqs;
+    private final float[] dxs, dys, speeds;
+    private int head;   // 가장 오래된 입력 위치
+    private int size;
+    private int nextSeq = 1;
+
+    // 마지막 스텝 (방향 / 속도 변화 판단) + 아직 안 보낸 구간 길이
+    private boolean hasLast;
+    private float lastDx, lastDy, lastSpeed;
+    private int runLength;
+
+    public InputHistory(int capacity) {
+        this(capacity, 1);
+    }
+
+    // 첫 seq 지정 (seq 순환 확인용)
+    InputHistory(int capacity, int firstSeq) {
+        nextSeq = firstSeq;
+        seqs = new int[capacity];
+        dxs = new float[capacity];
+        dys = new float[capacity];
+        speeds = new float[capacity];
+    }
+
+    // ★ 스텝 하나 기록 → seq 반환
+    public int record(float dx, float dy, float speed) {
+        if (size == seqs.length) {
+            head = (head + 1) % seqs.length;  // 너무 오래 확인이 없음 → 가장 오래된 것 버림
+            size--;
+        }
+        int i = (head + size) % seqs.length;
+        int seq = nextSeq++;
+        seqs[i] = seq;
+        dxs[i] = dx;
+        dys[i] = dy;
+        speeds[i] = speed;
+        size++;
+
+        hasLast = true;
+        lastDx = dx;
+        lastDy = dy;
+        lastSpeed = speed;
+        runLength++;
+        return seq;
+    }
+
+    // 직전 스텝과 방향 / 속도가 다른지 (멈췄다 다시 움직이면 true)
+    public boolean differsFromLast(float dx, float dy, float speed) {
+        return !hasLast || dx != lastDx || dy != lastDy || speed != lastSpeed;
+    }
+
+    // ★ 서버가 seq까지 처리함 → 그 이하 버림
+    public void ack(int seq) {
+        while (size > 0 && seqs[head] - seq <= 0) {
+            head = (head + 1) % seqs.length;
+            size--;
+        }
+    }
+
+    // 구간 전송 후
+    public void closeRun() {
+        runLength = 0;
+    }
+
+    // 멈춤 (남은 구간은 먼저 보낼 것) → 다음 스텝은 새 방향으로 취급
+    public void breakRun() {
+        runLength = 0;
+        hasLast = false;
+    }
+
+    public void clear() {
+        head = size = 0;
+        breakRun();
+    }
+
+    // ★ 서버 위치 (x, y)에서 확인 안 된 입력을 같은 스텝으로 다시 적용 → out에 결과 위치
+    public void replay(Player player, float x, float y, Player.MoveResolver resolver, Vector2 out) {
+        float px = x, py = y;
+        for (int i = 0; i < size; i++) {
+            int j = (head + i) % seqs.length;
+            resolver.step(player, px, py, dxs[j], dys[j], speeds[j] * STEP, out);
+            px = out.x;
+            py = out.y;
+        }
+        out.set(px, py);
+    }
+
+    public int runLength() { return runLength; }
+    public int lastSeq() { return nextSeq - 1; }
+    public float lastDx() { return lastDx; }
+    public float lastDy() { return lastDy; }
+
+    // 확인 안 된 입력 (0 = 가장 오래된 것)
+    public int size() { return size; }
+    public float dx(int i) { return dxs[(head + i) % seqs.length]; }
+    public float dy(int i) { return dys[(head + i) % seqs.length]; }
+    public float speed(int i) { return speeds[(head + i) % seqs.length]; }
+}
@@ -24,6 +24,27 @@ public class Player {
     private Vector2 velocity;
     private float baseSpeed = 380f;
     private float currentSpeed = 380f;
+    private float speedScale = 1f;  // ★ 원격 추측 항법용 화면 보정 배율 (GameScreen은 맵 크기 1.5배)
+
+    // ★ 원격 플레이어 추측 항법 (moveOther 사이를 마지막 방향 × 상태별 속도로 이어 그림)
+    private static final float MAX_EXTRAPOLATION = 1f;  // 초, 다음 업데이트가 이보다 늦으면 멈춰서 기다림
+    private static final float CORRECTION_TIME = 0.1f;  // 초, 새 업데이트와의 오차를 이 시간 상수로 흡수
+    private static final float SNAP_DISTANCE = 150f;    // 이보다 크게 어긋나면 바로 맞춤 (순간이동 등)
+    private boolean remote;                              // moveOther를 한 번이라도 받았으면 true
+    private final Vector2 netPos = new Vector2();       // 마지막 수신 위치에서 예측한 위치
+    private final Vector2 netDir = new Vector2();       // 마지막 수신 방향 (정규화, 정지면 0)
+    private final Vector2 correction = new Vector2();   // 그리는 위치 - 예측 위치 (점점 0으로)
+    private float netAge;                                // 마지막 수신 후 경과 시간
+    private MoveResolver moveResolver;                   // 화면의 충돌 / 경계 처리 (없으면 그대로 진행)
+    private final Vector2 resolved = new Vector2();
+
+    /**
+     * ★ 추측 항법 이동을 화면의 이동 규칙(장애물 / 플레이어 충돌 + 경계)으로 한 스텝 처리
+     * - (x, y)에서 방향 (dx, dy)로 dist만큼 → 막힌 축은 빼고 out에 결과 위치
+     */
+    public interface MoveResolver {
+        void step(Player player, float x, float y, float dx, float dy, float dist, Vector2 out);
+    }
 
     // 애니메이션
     private Animation<TextureRegion> walkLeft, walkRight;
@@ -92,8 +113,12 @@ public class Player {
     public void setPosition(float x, float y) {
         position.set(x, y);
         image.setPosition(x, y);
+        netPos.set(x, y);  // 원격이면 예측도 여기서 다시 시작
+        correction.set(0f, 0f);
     }
     public float getSpeed() { return currentSpeed; }
+    public void setSpeedScale(float scale) { this.speedScale = scale; }
+    public void setMoveResolver(MoveResolver resolver) { this.moveResolver = resolver; }
     public boolean isFacingRight() { return facingRight; }
     public void setFacingRight(boolean right) { this.facingRight = right; }
     
@@ -189,10 +214,16 @@ public class Player {
     }
     
     // ★★★ 추가: 다른 플레이어 이동 (네트워크 수신용) ★★★
+    //   바로 옮기지 않고 예측 위치만 바꿈 → 그리는 위치는 update에서 오차를 나눠 따라감
     public void moveOther(float dx, float dy, float x, float y) {
-        // 위치 설정
-        position.set(x, y);
-        image.setPosition(x, y);
+        if (remote) {
+            // 지금 그리던 위치 기준 오차 (너무 크면 그냥 순간이동)
+            correction.set(position.x - x, position.y - y);
+            if (correction.len2() > SNAP_DISTANCE * SNAP_DISTANCE) correction.set(0f, 0f);
+        }
+        remote = true;
+        netPos.set(x, y);
+        netAge = 0f;
         
         // 방향 설정 (애니메이션용)
         if (dx > 0) facingRight = true;
@@ -201,12 +232,58 @@ public class Player {
         // 이동 중인지 판단 (velocity 설정)
         float len = (float)Math.sqrt(dx*dx + dy*dy);
         if (len > 0.1f) {
-            // 이동 중 - velocity 설정해서 애니메이션 재생
+            // 이동 중 - velocity 설정해서 애니메이션 재생 + 그 방향으로 계속 예측
             velocity.set(dx / len, dy / len);
+            netDir.set(dx / len, dy / len);
         } else {
             // 정지 - velocity 초기화
             velocity.set(0, 0);
+            netDir.set(0f, 0f);
         }
+        applyRemotePosition();
+    }
+    
+    // ★ 원격 플레이어: 다음 업데이트 전까지 마지막 방향으로 진행 + 오차 감쇠
+    private void extrapolate(float delta) {
+        netAge += delta;
+        boolean moving = netDir.x != 0f || netDir.y != 0f;
+        if (moving && canMove()) {
+            if (netAge <= MAX_EXTRAPOLATION) {
+                stepRemote(extrapolationSpeed() * delta);
+            } else {
+                velocity.set(0, 0);  // 업데이트가 끊김 → 제자리에서 대기 (걷기 애니메이션 멈춤)
+            }
+        }
+        correction.scl((float) Math.exp(-delta / CORRECTION_TIME));
+        if (correction.len2() < 0.01f) correction.set(0f, 0f);
+        applyRemotePosition();
+    }
+    
+    // 화면 충돌 규칙으로 진행 (벽 / 다른 플레이어를 뚫지 않게), 완전히 막히면 걷기 애니메이션 멈춤
+    private void stepRemote(float dist) {
+        if (moveResolver == null) {
+            netPos.add(netDir.x * dist, netDir.y * dist);
+            return;
+        }
+        moveResolver.step(this, netPos.x, netPos.y, netDir.x, netDir.y, dist, resolved);
+        if (resolved.x == netPos.x && resolved.y == netPos.y) velocity.set(0, 0);
+        netPos.set(resolved);
+    }
+    
+    // 원격 예측 속도: 상태별 (대시 2배 / 공격 중 50%) × 화면 보정 배율 (내 이동 속도와는 별개)
+    private float extrapolationSpeed() {
+        float speed = baseSpeed;
+        if (state == PlayerState.DASHING) {
+            speed *= 2f;
+        } else if (state == PlayerState.ATTACKING) {
+            speed *= 0.5f;
+        }
+        return speed * speedScale;
+    }
+    
+    private void applyRemotePosition() {
+        position.set(netPos.x + correction.x, netPos.y + correction.y);
+        image.setPosition(position.x, position.y);
     }
     
     // ★ 이동 중인지 확인
@@ -228,6 +305,8 @@ public class Player {
 
     // === 애니메이션 업데이트 ===
     public void update(float delta) {
+        if (remote) extrapolate(delta);
+
         // animTime은 이동 중일 때만 증가
         if (velocity.len() > 0.1f) {
             animTime += delta;
@@ -0,0 +1,173 @@
+package io.github.freeze.log;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그 파일 출력 (링 버퍼 + 전용 스레드)
+ * - 호출 스레드는 슬롯에 참조만 넣고 리턴 (파일 I/O 없음)
+ * - 링이 가득 차면 버림 (게임 스레드를 절대 막지 않음) → dropped로 집계
+ * - 파일이 maxBytes를 넘으면 freeze.log → freeze.log.1 → ... 로 밀어내고 새로 씀
+ */
+public final class AsyncFileSink implements Runnable {
+    private static final int CAPACITY = 4096;  // 2의 거듭제곱
+    private static final int MASK = CAPACITY - 1;
+    private static final long IDLE_PARK_NANOS = 50000000L;  // 50ms (로그는 조금 늦어도 됨)
+
+    // 슬롯 (Vyukov 방식: seq == pos면 비어 있음, pos + 1이면 채워짐)
+    private final AtomicLongArray sequence = new AtomicLongArray(CAPACITY);
+    private final long[] times = new long[CAPACITY];
+    private final char[] levels = new char[CAPACITY];
+    private final String[] tags = new String[CAPACITY];
+    private final String[] messages = new String[CAPACITY];
+    private final Throwable[] errors = new Throwable[CAPACITY];
+
+    private final AtomicLong tail = new AtomicLong();
+    private long head;  // 쓰기 스레드 전용
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final File file;
+    private final long maxBytes;
+    private final int keepFiles;
+    private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss.SSS");  // 쓰기 스레드 전용
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private OutputStream out;
+    private long written;
+
+    public AsyncFileSink(File file, long maxBytes, int keepFiles) {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.keepFiles = Math.max(1, keepFiles);
+        for (int i = 0; i < CAPACITY; i++) sequence.set(i, i);
+
+        thread = new Thread(this, "log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // ★ 아무 스레드: 빈 슬롯이 없으면 버림
+    void offer(long time, char level, String tag, String msg, Throwable t) {
+        long pos;
+        int idx;
+        for (;;) {
+            pos = tail.get();
+            idx = (int) (pos & MASK);
+            long diff = sequence.get(idx) - pos;
+            if (diff < 0) {
+                dropped.incrementAndGet();
+                return;
+            }
+            if (diff == 0 && tail.compareAndSet(pos, pos + 1)) break;
+        }
+        times[idx] = time;
+        levels[idx] = level;
+        tags[idx] = tag;
+        messages[idx] = msg;
+        errors[idx] = t;
+        sequence.set(idx, pos + 1);  // 게시
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    // 남은 로그를 다 쓰고 파일을 닫음
+    public void close() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            open();
+            for (;;) {
+                boolean any = false;
+                while (writeNext()) any = true;
+                if (any) out.flush();
+                if (!running) {
+                    while (writeNext()) {}
+                    break;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        } catch (IOException e) {
+            System.err.println("log-writer: " + e.getMessage());
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private boolean writeNext() throws IOException {
+        int idx = (int) (head & MASK);
+        if (sequence.get(idx) != head + 1) return false;
+
+        StringBuilder sb = new StringBuilder(64 + messages[idx].length());
+        sb.append(timeFormat.format(new Date(times[idx]))).append(' ')
+          .append(levels[idx]).append(" [").append(tags[idx]).append("] ")
+          .append(messages[idx]).append('\n');
+        if (errors[idx] != null) {
+            StringWriter trace = new StringWriter();
+            errors[idx].printStackTrace(new PrintWriter(trace));
+            sb.append(trace);
+        }
+        tags[idx] = null;
+        messages[idx] = null;
+        errors[idx] = null;
+        sequence.set(idx, head + CAPACITY);  // 슬롯 반환
+        head++;
+
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        out.write(bytes);
+        written += bytes.length;
+        if (written >= maxBytes) roll();
+        return true;
+    }
+
+    // freeze.log.(n-1) → .n, ..., freeze.log → .1
+    private void roll() throws IOException {
+        closeQuietly();
+        File oldest = new File(file.getPath() + "." + keepFiles);
+        if (oldest.exists() && !oldest.delete()) System.err.println("log-writer: cannot delete " + oldest);
+        for (int i = keepFiles - 1; i >= 1; i--) {
+            File f = new File(file.getPath() + "." + i);
+            if (f.exists()) f.renameTo(new File(file.getPath() + "." + (i + 1)));
+        }
+        file.renameTo(new File(file.getPath() + ".1"));
+        open();
+    }
+
+    private void open() throws IOException {
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null) dir.mkdirs();
+        written = file.length();
+        out = new BufferedOutputStream(new FileOutputStream(file, true), 16 * 1024);
+    }
+
+    private void closeQuietly() {
+        if (out == null) return;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+        }
+        out = null;
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.freeze.log;
+
+import com.badlogic.gdx.Gdx;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그 창구 (Gdx.app.log 대신)
+ * - 태그별 레벨: 꺼진 레벨이면 문자열을 만들기 전에 바로 리턴
+ * - "{}" 자리표시자: 켜져 있을 때만 조립 (인자 3개까지는 배열 할당 없음)
+ * - 샘플링: 초당 수십 번 찍히는 태그는 N개 중 1개만 (ERROR는 항상)
+ * - 파일 출력은 AsyncFileSink (링 버퍼 + 별도 스레드 + 크기별 교체)
+ * - 숫자 인자는 호출하는 쪽에서 박싱되므로 매 틱 경로는 isEnabled()로 먼저 감쌀 것
+ */
+public final class Log {
+    public static final int NONE = 0;
+    public static final int ERROR = 1;
+    public static final int INFO = 2;
+    public static final int DEBUG = 3;
+    public static final int TRACE = 4;
+    private static final char[] LEVEL_CHARS = {'-', 'E', 'I', 'D', 'T'};
+
+    // 태그별 설정 (level < 0이면 기본 레벨)
+    private static final class Tag {
+        volatile int level = -1;
+        volatile int sampleEvery = 1;
+        final AtomicLong seen = new AtomicLong();
+    }
+
+    private static final ConcurrentHashMap<String, Tag> TAGS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<StringBuilder> BUF = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    private static volatile int defaultLevel = INFO;
+    private static volatile int consoleLevel = TRACE;  // 콘솔에는 이 레벨까지만 (파일은 켜진 것 전부)
+    private static volatile AsyncFileSink fileSink;
+
+    private Log() {}
+
+    // ====== 설정 ======
+
+    public static void setDefaultLevel(int level) { defaultLevel = level; }
+    public static void setLevel(String tag, int level) { tag(tag).level = level; }
+    public static void setConsoleLevel(int level) { consoleLevel = level; }
+
+    // ★ every개 중 1개만 출력 (1이면 전부)
+    public static void setSampling(String tag, int every) {
+        tag(tag).sampleEvery = Math.max(1, every);
+    }
+
+    // 파일 출력 연결 (null이면 해제, 이전 sink는 닫음)
+    public static synchronized void setFileSink(AsyncFileSink sink) {
+        AsyncFileSink old = fileSink;
+        fileSink = sink;
+        if (old != null && old != sink) old.close();
+    }
+
+    public static synchronized void shutdown() {
+        setFileSink(null);
+    }
+
+    public static boolean isEnabled(String tag, int level) {
+        int l = tag(tag).level;
+        return level <= (l >= 0 ? l : defaultLevel);
+    }
+
+    public static boolean isDebug(String tag) {
+        return isEnabled(tag, DEBUG);
+    }
+
+    // ====== 출력 ======
+
+    public static void error(String tag, String msg) { log(ERROR, tag, msg, null, null, null, 0, null); }
+    public static void error(String tag, String msg, Throwable t) { log(ERROR, tag, msg, null, null, null, 0, t); }
+    public static void error(String tag, String fmt, Object a) { log(ERROR, tag, fmt, a, null, null, 1, null); }
+    public static void error(String tag, String fmt, Object a, Object b) { log(ERROR, tag, fmt, a, b, null, 2, null); }
+    public static void error(String tag, String fmt, Object a, Throwable t) { log(ERROR, tag, fmt, a, null, null, 1, t); }
+
+    public static void info(String tag, String msg) { log(INFO, tag, msg, null, null, null, 0, null); }
+    public static void info(String tag, String fmt, Object a) { log(INFO, tag, fmt, a, null, null, 1, null); }
+    public static void info(String tag, String fmt, Object a, Object b) { log(INFO, tag, fmt, a, b, null, 2, null); }
+    public static void info(String tag, String fmt, Object a, Object b, Object c) { log(INFO, tag, fmt, a, b, c, 3, null); }
+    public static void info(String tag, String fmt, Object... args) { logArray(INFO, tag, fmt, args); }
+
+    public static void debug(String tag, String msg) { log(DEBUG, tag, msg, null, null, null, 0, null); }
+    public static void debug(String tag, String fmt, Object a) { log(DEBUG, tag, fmt, a, null, null, 1, null); }
+    public static void debug(String tag, String fmt, Object a, Object b) { log(DEBUG, tag, fmt, a, b, null, 2, null); }
+    public static void debug(String tag, String fmt, Object a, Object b, Object c) { log(DEBUG, tag, fmt, a, b, c, 3, null); }
+    public static void debug(String tag, String fmt, Object... args) { logArray(DEBUG, tag, fmt, args); }
+
+    public static void trace(String tag, String fmt, Object a) { log(TRACE, tag, fmt, a, null, null, 1, null); }
+    public static void trace(String tag, String fmt, Object... args) { logArray(TRACE, tag, fmt, args); }
+
+    // ====== 내부 ======
+
+    private static Tag tag(String name) {
+        Tag t = TAGS.get(name);
+        if (t == null) {
+            Tag created = new Tag();
+            t = TAGS.putIfAbsent(name, created);
+            if (t == null) t = created;
+        }
+        return t;
+    }
+
+    // 레벨 + 샘플링 통과 여부 (여기까지는 문자열 조립 없음)
+    private static boolean accept(int level, String tagName) {
+        Tag t = tag(tagName);
+        int l = t.level;
+        if (level > (l >= 0 ? l : defaultLevel)) return false;
+        int every = t.sampleEvery;
+        return level == ERROR || every <= 1 || t.seen.getAndIncrement() % every == 0;
+    }
+
+    private static void log(int level, String tag, String fmt, Object a, Object b, Object c, int argc, Throwable t) {
+        if (!accept(level, tag)) return;
+        StringBuilder sb = BUF.get();
+        sb.setLength(0);
+        int from = 0;
+        for (int i = 0; i < argc; i++) {
+            from = append(sb, fmt, from, i == 0 ? a : i == 1 ? b : c);
+        }
+        sb.append(fmt, from, fmt.length());
+        emit(level, tag, sb.toString(), t);
+    }
+
+    private static void logArray(int level, String tag, String fmt, Object[] args) {
+        if (!accept(level, tag)) return;
+        StringBuilder sb = BUF.get();
+        sb.setLength(0);
+        int from = 0;
+        for (Object arg : args) from = append(sb, fmt, from, arg);
+        sb.append(fmt, from, fmt.length());
+        emit(level, tag, sb.toString(), null);
+    }
+
+    // 다음 "{}"까지 복사하고 인자를 끼움 (자리표시자가 모자라면 뒤에 붙임)
+    private static int append(StringBuilder sb, String fmt, int from, Object arg) {
+        int at = fmt.indexOf("{}", from);
+        if (at < 0) {
+            sb.append(fmt, from, fmt.length()).append(' ').append(arg);
+            return fmt.length();
+        }
+        sb.append(fmt, from, at).append(arg);
+        return at + 2;
+    }
+
+    private static void emit(int level, String tag, String msg, Throwable t) {
+        if (level <= consoleLevel && Gdx.app != null) {
+            if (level == ERROR) {
+                if (t != null) Gdx.app.error(tag, msg, t); else Gdx.app.error(tag, msg);
+            } else {
+                Gdx.app.log(tag, msg);
+            }
+        }
+        AsyncFileSink sink = fileSink;
+        if (sink != null) sink.offer(System.currentTimeMillis(), LEVEL_CHARS[level], tag, msg, t);
+    }
+}
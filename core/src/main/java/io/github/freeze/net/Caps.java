@@ -0,0 +1,42 @@
+package io.github.freeze.net;
+
+/**
+ * 연결 단위 기능 협상 (클라이언트가 제안 → 서버가 수락한 것만 사용)
+ * - createRoom/join payload에 "caps" 배열로 제안
+ * - 서버 응답의 "caps" 배열에 들어있는 기능만 켠다
+ * - 서버가 모르면 아무것도 안 켜짐 → 기존 JSON 방식 그대로
+ */
+public final class Caps {
+    // 기능 비트
+    public static final int BIN_MOVE = 1;       // move/playerMoved 바이너리 프레임
+    public static final int SLOT_IDS = 1 << 1;  // playerId 대신 방 단위 슬롯 번호
+    public static final int DELTA_MOVE = 1 << 2; // 양자화 + 변경 필드만 보내는 이동 프레임 (BIN_MOVE 필요)
+    public static final int BATCH_OUT = 1 << 3;  // 프레임 단위 송신 묶음 ("batch" 봉투)
+    public static final int BATCH_IN = 1 << 4;   // 서버 → 클라 이벤트 묶음 (같은 봉투)
+    public static final int WORLD_STATE = 1 << 5; // 틱마다 전체 플레이어 worldState (playerMoved 대신)
+    public static final int PING = 1 << 6;        // ping/pong 메시지 (서버 시각 포함 → 시계 차이 추정)
+    public static final int RESUME = 1 << 7;      // 재연결 시 resumeToken으로 세션 이어받기
+    public static final int UDP = 1 << 8;         // 이동만 UDP 보조 채널로 (udpPort + udpToken 응답)
+    public static final int AUTH_MOVE = 1 << 9;   // 서버 권위 이동 (입력 seq 전송 → moveAck로 위치 보정)
+
+    // 와이어 토큰 (비트 순서와 동일)
+    private static final String[] TOKENS = { "bin1", "slot1", "delta1", "batch1", "batchin1", "world1", "ping1", "resume1", "udp1", "auth1" };
+
+    private Caps() {}
+
+    public static boolean has(int caps, int bit) {
+        return (caps & bit) != 0;
+    }
+
+    // ★ 클라이언트가 제안하는 기능 목록
+    public static String[] offer() {
+        return TOKENS.clone();
+    }
+
+    public static int bitOf(String token) {
+        for (int i = 0; i < TOKENS.length; i++) {
+            if (TOKENS[i].equals(token)) return 1 << i;
+        }
+        return 0;
+    }
+}
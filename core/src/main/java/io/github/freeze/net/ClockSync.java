@@ -0,0 +1,88 @@
+package io.github.freeze.net;
+
+/**
+ * 왕복 지연(RTT) + 서버 시계 차이 추정
+ * - RTT: RFC 6298 방식 평활 (SRTT += (R - SRTT) / 8, RTTVAR += (|SRTT - R| - RTTVAR) / 4)
+ * - 시계 차이: NTP 방식 offset = ((t1 - t0) + (t2 - t3)) / 2
+ *   최근 WINDOW개 중 RTT가 가장 짧았던 표본의 offset 사용 (큐에 밀린 표본은 비대칭이라 부정확)
+ * - 로컬 시각은 nanoTime 기준 밀리초 (벽시계가 바뀌어도 안 흔들림)
+ * - WS 스레드가 쓰고 렌더 스레드가 읽음 → synchronized
+ */
+final class ClockSync {
+    static final int WINDOW = 8;
+
+    // 로컬 시각: 시작 시점 벽시계 + nanoTime 경과 (단조 증가 + 서버 시각과 같은 단위)
+    private static final long BASE_WALL = System.currentTimeMillis();
+    private static final long BASE_NANO = System.nanoTime();
+
+    private float srtt;
+    private float rttVar;
+    private boolean hasRtt;
+
+    // 시계 차이 표본 (원형)
+    private final float[] sampleRtt = new float[WINDOW];
+    private final double[] sampleOffset = new double[WINDOW];
+    private int sampleCount;
+    private int sampleNext;
+    private double offset;
+    private boolean hasOffset;
+
+    private long samples;
+
+    static long localMillis() {
+        return BASE_WALL + (System.nanoTime() - BASE_NANO) / 1000000L;
+    }
+
+    // ★ RTT만 있는 표본 (WebSocket ping 프레임)
+    synchronized void onRtt(float rtt) {
+        if (rtt < 0f) return;
+        samples++;
+        if (!hasRtt) {
+            srtt = rtt;
+            rttVar = rtt / 2f;
+            hasRtt = true;
+        } else {
+            rttVar += (Math.abs(srtt - rtt) - rttVar) / 4f;
+            srtt += (rtt - srtt) / 8f;
+        }
+    }
+
+    // ★ pong 표본: t0 보낸 시각(로컬), t1 서버 수신, t2 서버 송신, t3 받은 시각(로컬)
+    synchronized void onPong(long t0, long t1, long t2, long t3) {
+        float rtt = (t3 - t0) - (t2 - t1);  // 서버 처리 시간 제외
+        if (rtt < 0f) rtt = 0f;
+        onRtt(rtt);
+
+        sampleRtt[sampleNext] = rtt;
+        sampleOffset[sampleNext] = ((t1 - t0) + (t2 - t3)) / 2.0;
+        sampleNext = (sampleNext + 1) % WINDOW;
+        if (sampleCount < WINDOW) sampleCount++;
+
+        int best = 0;
+        for (int i = 1; i < sampleCount; i++) {
+            if (sampleRtt[i] < sampleRtt[best]) best = i;
+        }
+        offset = sampleOffset[best];
+        hasOffset = true;
+    }
+
+    synchronized void reset() {
+        hasRtt = false;
+        hasOffset = false;
+        srtt = rttVar = 0f;
+        offset = 0;
+        sampleCount = sampleNext = 0;
+    }
+
+    synchronized boolean hasRtt() { return hasRtt; }
+    synchronized boolean hasOffset() { return hasOffset; }
+    synchronized float getRtt() { return srtt; }
+    synchronized float getRttVar() { return rttVar; }
+    synchronized double getOffset() { return offset; }
+    synchronized long getSamples() { return samples; }
+
+    // 서버 시계 기준 현재 시각 (offset 없으면 로컬 시각 그대로)
+    synchronized long serverTimeNow() {
+        return localMillis() + (hasOffset ? (long) offset : 0L);
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.freeze.net;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * permessage-deflate 방향별 집계 (송신: 렌더 스레드 / 수신: WebSocket 스레드)
+ * - raw: 압축 전 바이트, wire: 실제 전송 바이트
+ * - 압축을 생략한 프레임은 raw == wire, 시간 0
+ */
+public final class CompressionStats {
+    final AtomicLong outFrames = new AtomicLong();
+    final AtomicLong outCompressed = new AtomicLong();
+    final AtomicLong outRaw = new AtomicLong();
+    final AtomicLong outWire = new AtomicLong();
+    final AtomicLong outNanos = new AtomicLong();
+
+    final AtomicLong inFrames = new AtomicLong();
+    final AtomicLong inCompressed = new AtomicLong();
+    final AtomicLong inRaw = new AtomicLong();
+    final AtomicLong inWire = new AtomicLong();
+    final AtomicLong inNanos = new AtomicLong();
+
+    void recordOut(int raw, int wire, long nanos, boolean compressed) {
+        outFrames.incrementAndGet();
+        if (compressed) outCompressed.incrementAndGet();
+        outRaw.addAndGet(raw);
+        outWire.addAndGet(wire);
+        outNanos.addAndGet(nanos);
+    }
+
+    void recordIn(int wire, int raw, long nanos, boolean compressed) {
+        inFrames.incrementAndGet();
+        if (compressed) inCompressed.incrementAndGet();
+        inWire.addAndGet(wire);
+        inRaw.addAndGet(raw);
+        inNanos.addAndGet(nanos);
+    }
+
+    public long getOutRawBytes() { return outRaw.get(); }
+    public long getOutWireBytes() { return outWire.get(); }
+    public long getOutNanos() { return outNanos.get(); }
+    public long getInRawBytes() { return inRaw.get(); }
+    public long getInWireBytes() { return inWire.get(); }
+    public long getInNanos() { return inNanos.get(); }
+
+    @Override
+    public String toString() {
+        return "out " + outCompressed.get() + "/" + outFrames.get() + " frames " + outRaw.get() + "B -> " + outWire.get()
+                + "B (" + outNanos.get() / 1000000L + "ms), in " + inCompressed.get() + "/" + inFrames.get() + " frames "
+                + inWire.get() + "B -> " + inRaw.get() + "B (" + inNanos.get() / 1000000L + "ms)";
+    }
+}
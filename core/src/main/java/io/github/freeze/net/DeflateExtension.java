@@ -0,0 +1,82 @@
+package io.github.freeze.net;
+
+import org.java_websocket.exceptions.InvalidDataException;
+import org.java_websocket.extensions.IExtension;
+import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
+import org.java_websocket.framing.ContinuousFrame;
+import org.java_websocket.framing.DataFrame;
+import org.java_websocket.framing.Framedata;
+import org.java_websocket.framing.FramedataImpl1;
+
+import java.nio.ByteBuffer;
+
+/**
+ * permessage-deflate + 크기 기준
+ * - threshold 미만 메시지는 압축 생략 (이동 프레임 등 작은 메시지의 CPU 비용 절약)
+ * - 스냅샷처럼 큰 메시지만 압축
+ * - 서버가 확장을 거절하면 라이브러리가 기본 RFC 6455로 동작
+ * - ★ 부모는 페이로드 버퍼의 backing array 전체를 압축하므로
+ *   재사용 버퍼(NetWriter 슬롯 등)는 남은 바이트만 정확한 길이로 복사해서 넘김
+ */
+final class DeflateExtension extends PerMessageDeflateExtension {
+    private final int threshold;
+    private final CompressionStats stats;
+
+    // 지금 보내는 메시지(연속 프레임 포함)를 압축 생략 중인지
+    private boolean skipping;
+    // 지금 보내는 메시지에 실제로 RSV1이 붙었는지 (연속 프레임 집계용)
+    private boolean deflating;
+    // 지금 받는 메시지가 압축돼 있는지 (RSV1은 첫 프레임에만 있음)
+    private boolean inflating;
+
+    DeflateExtension(int threshold, CompressionStats stats) {
+        this.threshold = threshold;
+        this.stats = stats;
+        // 크기 판단은 여기서 함 → 부모의 기본 기준(1024)은 끔
+        setThreshold(0);
+    }
+
+    @Override
+    public void encodeFrame(Framedata frame) {
+        if (!(frame instanceof DataFrame)) {
+            super.encodeFrame(frame);
+            return;
+        }
+        int raw = frame.getPayloadData().remaining();
+        // 메시지의 첫 프레임에서 결정 → 연속 프레임도 같은 결정을 따름
+        if (!(frame instanceof ContinuousFrame)) skipping = raw < threshold;
+        if (skipping) {
+            stats.recordOut(raw, raw, 0L, false);
+            return;
+        }
+        long t0 = System.nanoTime();
+        ByteBuffer src = frame.getPayloadData();
+        byte[] exact = new byte[raw];
+        src.duplicate().get(exact);
+        ((FramedataImpl1) frame).setPayload(ByteBuffer.wrap(exact));
+        super.encodeFrame(frame);
+        if (!(frame instanceof ContinuousFrame)) deflating = frame.isRSV1();
+        stats.recordOut(raw, frame.getPayloadData().remaining(), System.nanoTime() - t0, deflating);
+    }
+
+    @Override
+    public void decodeFrame(Framedata frame) throws InvalidDataException {
+        if (!(frame instanceof DataFrame)) {
+            super.decodeFrame(frame);
+            return;
+        }
+        if (!(frame instanceof ContinuousFrame)) inflating = frame.isRSV1();
+        boolean compressed = inflating;
+        int wire = frame.getPayloadData().remaining();
+        long t0 = System.nanoTime();
+        super.decodeFrame(frame);
+        long nanos = compressed ? System.nanoTime() - t0 : 0L;
+        stats.recordIn(wire, frame.getPayloadData().remaining(), nanos, compressed);
+    }
+
+    // 연결마다 새 인스턴스 (집계는 공유)
+    @Override
+    public IExtension copyInstance() {
+        return new DeflateExtension(threshold, stats);
+    }
+}
@@ -0,0 +1,218 @@
+package io.github.freeze.net;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * move / playerMoved 델타 프레임 코덱 (DELTA_MOVE 협상 시)
+ *
+ *  [0]  op     u8   (OP_MOVE_DELTA: 클라→서버, OP_PLAYER_MOVED_DELTA: 서버→클라)
+ *  [1]  flags  u8   (F_* 비트: 아래 필드 중 무엇이 들어있는지)
+ *  [2]  seq    u8   (보낸 쪽 기준 일련번호, 유실 감지용)
+ *  [..] slot   u8              (F_SLOT)
+ *       또는 idLen u8 + id UTF-8 (F_SLOT 없음)
+ *  [..] dir    u8   (F_DIR: dx 2비트 + dy 2비트, 0 / +1 / -1)
+ *  [..] x      u16  (F_X: 이동 영역 기준 0..65535)
+ *  [..] y      u16  (F_Y)
+ *
+ * - 바뀌지 않은 dir / x / y는 생략 → 받는 쪽은 마지막 값을 유지
+ * - KEYFRAME_INTERVAL번마다 모든 필드를 담은 키프레임 (F_KEY) → 유실 복구
+ * - 방향은 키 입력 기준 (-1, 0, 1)만 표현, 그 밖의 값은 부호만 남음
+ */
+public final class DeltaMoveCodec {
+    public static final byte OP_MOVE_DELTA = 0x05;
+    public static final byte OP_PLAYER_MOVED_DELTA = 0x06;
+
+    static final int F_KEY = 1;
+    static final int F_SLOT = 1 << 1;
+    static final int F_DIR = 1 << 2;
+    static final int F_X = 1 << 3;
+    static final int F_Y = 1 << 4;
+
+    public static final int KEYFRAME_INTERVAL = 30;  // 50Hz 기준 약 0.6초
+    public static final int MAX_FRAME = 3 + 1 + MoveCodec.MAX_ID_BYTES + 1 + 4;
+
+    private static final int Q_MAX = 0xFFFF;
+    private static final int NO_DIR = -1;
+
+    // ★ 보낸 쪽별 마지막 값 (받는 쪽)
+    private static final class Baseline {
+        int qx, qy, dir;
+        int seq;
+        boolean valid;  // 키프레임을 한 번이라도 받았는지
+    }
+
+    // 이동 영역 (양쪽이 같은 영역을 기준으로 양자화)
+    private float areaX, areaY, areaW, areaH;
+
+    // 보내는 쪽 상태
+    private int seq;
+    private int sinceKey = KEYFRAME_INTERVAL;
+    private int lastQx, lastQy, lastDir = NO_DIR;
+
+    // 받는 쪽 상태 (슬롯 / ID별)
+    private final Baseline[] bySlot = new Baseline[SlotTable.MAX_SLOTS];
+    private final Map<String, Baseline> byId = new HashMap<>();
+    private int gaps;
+
+    public synchronized void setArea(float x, float y, float w, float h) {
+        areaX = x;
+        areaY = y;
+        areaW = w;
+        areaH = h;
+        reset();  // 기준이 바뀌었으니 양쪽 모두 키프레임부터
+    }
+
+    public synchronized boolean hasArea() {
+        return areaW > 0f && areaH > 0f;
+    }
+
+    public synchronized float areaX() { return areaX; }
+    public synchronized float areaY() { return areaY; }
+    public synchronized float areaW() { return areaW; }
+    public synchronized float areaH() { return areaH; }
+
+    public synchronized void reset() {
+        sinceKey = KEYFRAME_INTERVAL;
+        lastDir = NO_DIR;
+        for (int i = 0; i < bySlot.length; i++) bySlot[i] = null;
+        byId.clear();
+    }
+
+    // 다음 전송을 키프레임으로 (정지 등 꼭 맞춰야 할 때)
+    public synchronized void forceKeyframe() {
+        sinceKey = KEYFRAME_INTERVAL;
+    }
+
+    // 받은 쪽에서 감지한 일련번호 건너뜀 횟수
+    public synchronized int getGaps() {
+        return gaps;
+    }
+
+    // ★ 프레임 작성 (slot이 NONE이면 id 바이트 사용, buf는 재사용, flip된 상태로 반환)
+    public synchronized ByteBuffer encode(ByteBuffer buf, byte op, int slot, byte[] id,
+                                          float dx, float dy, float x, float y) {
+        int qx = quantize(x, areaX, areaW);
+        int qy = quantize(y, areaY, areaH);
+        int dir = packDir(dx, dy);
+        boolean key = sinceKey >= KEYFRAME_INTERVAL;
+
+        buf.clear();
+        buf.put(op);
+        buf.put((byte) 0);  // flags 자리
+        buf.put((byte) seq);
+
+        int flags = key ? F_KEY : 0;
+        if (SlotTable.isValid(slot)) {
+            flags |= F_SLOT;
+            buf.put((byte) slot);
+        } else {
+            buf.put((byte) id.length);
+            buf.put(id);
+        }
+        if (key || dir != lastDir) {
+            flags |= F_DIR;
+            buf.put((byte) dir);
+        }
+        if (key || qx != lastQx) {
+            flags |= F_X;
+            buf.putShort((short) qx);
+        }
+        if (key || qy != lastQy) {
+            flags |= F_Y;
+            buf.putShort((short) qy);
+        }
+        buf.put(1, (byte) flags);
+        buf.flip();
+
+        seq = (seq + 1) & 0xFF;
+        sinceKey = key ? 1 : sinceKey + 1;
+        lastQx = qx;
+        lastQy = qy;
+        lastDir = dir;
+        return buf;
+    }
+
+    // ★ 프레임 해석 (잘린 프레임이거나 아직 키프레임을 못 받았으면 false)
+    public synchronized boolean decode(ByteBuffer buf, MoveCodec.Move out) {
+        if (buf.remaining() < 4) return false;
+        byte op = buf.get();
+        if (op != OP_PLAYER_MOVED_DELTA && op != OP_MOVE_DELTA) return false;
+        int flags = buf.get() & 0xFF;
+        int frameSeq = buf.get() & 0xFF;
+
+        Baseline base;
+        if ((flags & F_SLOT) != 0) {
+            out.slot = buf.get() & 0xFF;
+            out.playerId = null;
+            base = bySlot[out.slot];
+            if (base == null) base = bySlot[out.slot] = new Baseline();
+        } else {
+            int idLen = buf.get() & 0xFF;
+            if (idLen > buf.remaining()) return false;
+            byte[] id = new byte[idLen];
+            buf.get(id);
+            out.slot = SlotTable.NONE;
+            out.playerId = new String(id, StandardCharsets.UTF_8);
+            base = byId.get(out.playerId);
+            if (base == null) {
+                base = new Baseline();
+                byId.put(out.playerId, base);
+            }
+        }
+
+        int need = ((flags & F_DIR) != 0 ? 1 : 0) + ((flags & F_X) != 0 ? 2 : 0) + ((flags & F_Y) != 0 ? 2 : 0);
+        if (buf.remaining() < need) return false;
+
+        if ((flags & F_KEY) != 0) {
+            base.valid = true;
+        } else if (base.valid && frameSeq != ((base.seq + 1) & 0xFF)) {
+            gaps++;  // 생략된 필드는 다음 키프레임까지 마지막 값으로
+        }
+        base.seq = frameSeq;
+
+        if ((flags & F_DIR) != 0) base.dir = buf.get() & 0xFF;
+        if ((flags & F_X) != 0) base.qx = buf.getShort() & 0xFFFF;
+        if ((flags & F_Y) != 0) base.qy = buf.getShort() & 0xFFFF;
+        if (!base.valid) return false;  // 키프레임 전 델타는 버림
+
+        out.dx = unpackDir(base.dir);
+        out.dy = unpackDir(base.dir >> 2);
+        out.x = dequantize(base.qx, areaX, areaW);
+        out.y = dequantize(base.qy, areaY, areaH);
+        return true;
+    }
+
+    // ========== 양자화 ==========
+    static int quantize(float v, float origin, float size) {
+        if (size <= 0f) return 0;
+        int q = Math.round((v - origin) / size * Q_MAX);
+        if (q < 0) return 0;
+        if (q > Q_MAX) return Q_MAX;
+        return q;
+    }
+
+    static float dequantize(int q, float origin, float size) {
+        return origin + q * size / Q_MAX;
+    }
+
+    static int packDir(float dx, float dy) {
+        return dirBits(dx) | (dirBits(dy) << 2);
+    }
+
+    private static int dirBits(float v) {
+        if (v > 0f) return 1;
+        if (v < 0f) return 2;
+        return 0;
+    }
+
+    private static float unpackDir(int bits) {
+        switch (bits & 3) {
+            case 1: return 1f;
+            case 2: return -1f;
+            default: return 0f;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.freeze.net;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔드포인트 측정 결과 저장 (Preferences "freeze-net", 실행 간 유지)
+ * - endpoint.rank: 빠른 순 URL (쉼표 구분) / endpoint.rtt: 같은 순서의 RTT / endpoint.probedAt: 측정 시각
+ * - 하루 지난 결과는 쓰지 않음
+ * - 콜백 스레드에서만 사용 (Preferences는 스레드 안전하지 않음), Gdx 없으면 아무것도 안 함
+ */
+final class EndpointCache {
+    static final long MAX_AGE_MS = 24L * 60L * 60L * 1000L;
+    private static final String PREFS = "freeze-net";
+    private static final String K_RANK = "endpoint.rank";
+    private static final String K_RTT = "endpoint.rtt";
+    private static final String K_PROBED_AT = "endpoint.probedAt";
+
+    // ★ 저장된 순위 중 지금 후보에 있는 것만 (없거나 오래됐으면 빈 목록)
+    List<String> load(List<String> candidates) {
+        List<String> ranked = new ArrayList<>();
+        Preferences p = prefs();
+        if (p == null) return ranked;
+        if (System.currentTimeMillis() - p.getLong(K_PROBED_AT, 0L) > MAX_AGE_MS) return ranked;
+
+        String rank = p.getString(K_RANK, "");
+        if (rank.isEmpty()) return ranked;
+        for (String url : rank.split(",")) {
+            if (candidates.contains(url)) ranked.add(url);
+        }
+        return ranked;
+    }
+
+    void store(List<EndpointProber.Result> results) {
+        Preferences p = prefs();
+        if (p == null || results.isEmpty()) return;
+
+        StringBuilder rank = new StringBuilder();
+        StringBuilder rtt = new StringBuilder();
+        for (EndpointProber.Result r : results) {
+            if (rank.length() > 0) {
+                rank.append(',');
+                rtt.append(',');
+            }
+            rank.append(r.url);
+            rtt.append(Math.round(r.rttMs));
+        }
+        p.putString(K_RANK, rank.toString());
+        p.putString(K_RTT, rtt.toString());
+        p.putLong(K_PROBED_AT, System.currentTimeMillis());
+        p.flush();
+    }
+
+    private static Preferences prefs() {
+        return Gdx.app != null ? Gdx.app.getPreferences(PREFS) : null;
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.freeze.net;
+
+import io.github.freeze.log.Log;
+
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 후보 중 가장 가까운 곳 고르기
+ * - 후보마다 TCP 핸드셰이크 시간을 병렬로 잼 (주소 해석은 시간에서 뺌, 2번 중 짧은 값)
+ * - 연결 실패 / 시간 초과는 결과에서 빠짐
+ * - 호출한 스레드는 최대 timeoutMs 남짓 막힘 → 렌더 스레드에서 부르지 말 것
+ */
+final class EndpointProber {
+    static final int DEFAULT_TIMEOUT_MS = 1000;
+    private static final int SAMPLES = 2;
+
+    // 측정마다 재사용 (쉬는 스레드는 60초 뒤 정리)
+    private static final ExecutorService POOL = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "net-probe");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static final class Result {
+        final String url;
+        final float rttMs;
+
+        Result(String url, float rttMs) {
+            this.url = url;
+            this.rttMs = rttMs;
+        }
+
+        @Override
+        public String toString() {
+            return url + "=" + String.format("%.1fms", rttMs);
+        }
+    }
+
+    private EndpointProber() {}
+
+    // ★ 응답한 후보만 RTT 오름차순 (모두 실패하면 빈 목록)
+    static List<Result> probe(List<String> urls, int timeoutMs) {
+        List<Result> results = new ArrayList<>();
+        if (urls.isEmpty()) return results;
+
+        List<Future<Result>> futures = new ArrayList<>();
+        try {
+            for (String url : urls) {
+                futures.add(POOL.submit(() -> probeOne(url, timeoutMs)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs * SAMPLES + 200L);
+            for (Future<Result> f : futures) {
+                try {
+                    long left = Math.max(0L, deadline - System.nanoTime());
+                    Result r = f.get(left, TimeUnit.NANOSECONDS);
+                    if (r != null) results.add(r);
+                } catch (Exception e) {
+                    f.cancel(true);  // 시간 초과 / 실패 → 후보에서 제외
+                }
+            }
+        } finally {
+            for (Future<Result> f : futures) f.cancel(true);  // 남은 것 정리 (스레드는 풀로 돌아감)
+        }
+        Collections.sort(results, (a, b) -> Float.compare(a.rttMs, b.rttMs));
+        return results;
+    }
+
+    private static Result probeOne(String url, int timeoutMs) {
+        try {
+            URI uri = new URI(url);
+            int port = uri.getPort() > 0 ? uri.getPort() : ("wss".equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+            InetSocketAddress addr = new InetSocketAddress(uri.getHost(), port);  // DNS는 여기서
+            if (addr.isUnresolved()) return null;
+
+            long best = Long.MAX_VALUE;
+            for (int i = 0; i < SAMPLES; i++) {
+                try (Socket s = new Socket()) {
+                    s.setTcpNoDelay(true);
+                    long t0 = System.nanoTime();
+                    s.connect(addr, timeoutMs);
+                    best = Math.min(best, System.nanoTime() - t0);
+                }
+            }
+            return new Result(url, best / 1000000f);
+        } catch (Exception e) {
+            Log.info("WS", "Probe failed: {} ({})", url, e.getMessage());
+            return null;
+        }
+    }
+}
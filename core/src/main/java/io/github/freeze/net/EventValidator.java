@@ -0,0 +1,67 @@
+package io.github.freeze.net;
+
+/**
+ * 수신 이벤트 검증 (WS 스레드에서 렌더 스레드로 넘기기 전)
+ * - 처리기가 쓸 수 없는 이벤트는 여기서 버림 → 렌더 스레드는 바로 적용만
+ * - 필수 필드 누락 / NaN·무한대 좌표 / 모르는 타입
+ * - 상태 없음 → 어느 스레드에서나 사용 가능
+ */
+final class EventValidator {
+    private EventValidator() {}
+
+    // 문제 없으면 null, 있으면 버리는 이유
+    static String check(NetEvent e) {
+        switch (e.type) {
+            case UNKNOWN:
+                return "unknown type";
+            case ROOM_CREATED:
+                return e.code == null && e.name == null ? "missing data.code" : null;
+            case GAME_STARTED:
+                return e.gameStart == null ? "missing snapshot" : null;
+            case PLAYER_MOVED:
+                if (!hasPlayer(e)) return "missing playerId/slot";
+                return finite(e.dx, e.dy, e.x, e.y) ? null : "non-finite position";
+            case PLAYER_LEFT:
+                return hasPlayer(e) ? null : "missing playerId/slot";
+            case PLAYER_READY:
+            case SKILL_USE:
+            case FOG_ACTIVATED:
+                return e.playerId == null ? "missing playerId" : null;
+            case FREEZE:
+            case UNFREEZE:
+                return e.targetId == null ? "missing targetId" : null;
+            case WORLD_STATE:
+            case RESUMED:
+                return checkWorld(e.world);
+            case PONG:
+                return e.t0 <= 0 || e.t1 <= 0 ? "missing t0/t1" : null;
+            case MOVE_ACK:
+                if (e.seq < 0) return "negative seq";
+                return finite(0f, 0f, e.x, e.y) ? null : "non-finite position";
+            default:
+                return null;  // PLAYER_JOINED / ERROR: 빠진 필드는 처리기가 기본값으로
+        }
+    }
+
+    // UDP로 바로 온 이동 (이벤트를 거치지 않음)
+    static String checkMove(MoveCodec.Move m) {
+        if (m.playerId == null && !SlotTable.isValid(m.slot)) return "missing playerId/slot";
+        return finite(m.dx, m.dy, m.x, m.y) ? null : "non-finite position";
+    }
+
+    private static String checkWorld(WorldSnapshot w) {
+        if (w.tick < 0) return "negative tick";
+        for (int i = 0; i < w.count; i++) {
+            if (!finite(w.dx[i], w.dy[i], w.x[i], w.y[i])) return "non-finite position";
+        }
+        return null;
+    }
+
+    private static boolean hasPlayer(NetEvent e) {
+        return e.playerId != null || SlotTable.isValid(e.slot);
+    }
+
+    private static boolean finite(float dx, float dy, float x, float y) {
+        return !Float.isNaN(dx + dy + x + y) && !Float.isInfinite(dx + dy + x + y);
+    }
+}
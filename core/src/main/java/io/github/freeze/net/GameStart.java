@@ -0,0 +1,30 @@
+package io.github.freeze.net;
+
+import io.github.freeze.game.PlayerRole;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * gameStarted 스냅샷 (네트워크 스레드에서 한 번만 해석)
+ * - snapshot: {"roles":{id:"CHASER"|"RUNNER"}, "spawns":{id:{x,y} 또는 [x,y]},
+ *              "duration":초, "startTime":서버 시각(ms)}
+ * - roles 외에는 없을 수 있음 (spawns 비어 있음 / duration 0 / serverStartTime 0)
+ * - 메시지마다 새 객체 → 스레드 간 전달해도 안전
+ */
+public final class GameStart {
+    public final Map<String, PlayerRole> roles = new LinkedHashMap<>();
+    public final Map<String, float[]> spawns = new HashMap<>();
+    public float duration;
+    public long serverStartTime;
+
+    public boolean hasSpawn(String playerId) {
+        return spawns.containsKey(playerId);
+    }
+
+    // 서버 역할 문자열 → PlayerRole (대소문자 무시, 모르면 RUNNER)
+    static PlayerRole roleOf(String role) {
+        return "CHASER".equalsIgnoreCase(role) ? PlayerRole.CHASER : PlayerRole.RUNNER;
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.freeze.net;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 메시지 타입별 처리기 등록표 (렌더 스레드 전용)
+ * - 타입 문자열 → NetEvent.Type 변환은 MessageDecoder가 한 번만, 여기서는 ordinal 배열 조회
+ * - 처리기마다 호출 횟수 / 누적·최대 시간 집계 → 어떤 메시지가 렌더 스레드를 잡아먹는지 확인
+ * - 새 서버 메시지: NetEvent.Type + MessageDecoder 타입 이름 + register() 한 줄
+ */
+final class HandlerRegistry {
+    interface Handler {
+        void handle(NetEvent e);
+    }
+
+    // 처리기 + 시간 집계
+    static final class Entry {
+        final NetEvent.Type type;
+        final Handler handler;
+        long count;
+        long totalNanos;
+        long maxNanos;
+
+        Entry(NetEvent.Type type, Handler handler) {
+            this.type = type;
+            this.handler = handler;
+        }
+    }
+
+    private final Entry[] byType = new Entry[NetEvent.Type.values().length];
+
+    void register(NetEvent.Type type, Handler handler) {
+        byType[type.ordinal()] = new Entry(type, handler);
+    }
+
+    // 등록된 처리기가 없으면 false
+    boolean dispatch(NetEvent e) {
+        Entry entry = byType[e.type.ordinal()];
+        if (entry == null) return false;
+
+        long t0 = System.nanoTime();
+        try {
+            entry.handler.handle(e);
+        } finally {
+            long dt = System.nanoTime() - t0;
+            entry.count++;
+            entry.totalNanos += dt;
+            if (dt > entry.maxNanos) entry.maxNanos = dt;
+        }
+        return true;
+    }
+
+    // 누적 시간 순 요약 (예: "PLAYER_MOVED x120 3.2ms max 0.4ms")
+    String report() {
+        List<Entry> used = new ArrayList<>();
+        for (Entry entry : byType) {
+            if (entry != null && entry.count > 0) used.add(entry);
+        }
+        Collections.sort(used, (a, b) -> Long.compare(b.totalNanos, a.totalNanos));
+
+        StringBuilder sb = new StringBuilder();
+        for (Entry entry : used) {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(entry.type).append(" x").append(entry.count)
+              .append(' ').append(millis(entry.totalNanos)).append("ms")
+              .append(" max ").append(millis(entry.maxNanos)).append("ms");
+        }
+        return sb.toString();
+    }
+
+    void resetStats() {
+        for (Entry entry : byType) {
+            if (entry == null) continue;
+            entry.count = 0;
+            entry.totalNanos = 0;
+            entry.maxNanos = 0;
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1000000.0);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.freeze.net;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 수신 이벤트 링 버퍼 (생산자: 현재 연결의 WS 스레드 1개 / 소비자: 렌더 스레드 1개)
+ * - 슬롯 객체는 미리 할당해 재사용 → 메시지마다 runnable을 만들지 않음
+ * - 락 없음: head는 소비자만, tail은 생산자만 씀 (volatile로 게시)
+ * - 가득 차면 WS 스레드가 잠깐씩 쉬며 대기 → 신뢰 이벤트는 버리지 않음 (TCP가 알아서 늦춰짐)
+ */
+final class InboundRing {
+    static final int CAPACITY = 1024;  // 2의 거듭제곱
+    private static final int MASK = CAPACITY - 1;
+    private static final long FULL_PARK_NANOS = 1000000L;  // 1ms
+
+    // 슬롯 종류
+    static final int KIND_EVENT = 0;  // WS 스레드에서 해석·검증 끝난 이벤트
+    static final int KIND_MOVES = 1;  // 합쳐진 이동 drain 예약
+
+    static final class Slot {
+        int kind;
+        final NetEvent event = new NetEvent();
+        MoveCoalescer.Batch before;  // 이 이벤트 앞에 적용할 이동 (없으면 null)
+        int gen;
+
+        void clear() {
+            before = null;
+            if (kind == KIND_EVENT) event.reset();  // 문자열 참조 해제
+        }
+    }
+
+    private final Slot[] slots = new Slot[CAPACITY];
+    private volatile long head;  // 소비자만 씀
+    private volatile long tail;  // 생산자만 씀
+
+    private int maxDepth;     // 생산자 쪽 집계
+    private long fullWaits;
+
+    InboundRing() {
+        for (int i = 0; i < CAPACITY; i++) slots[i] = new Slot();
+    }
+
+    // ★ 생산자: 빈 슬롯을 받아 채운 뒤 publish()
+    Slot claim() {
+        long t = tail;
+        while (t - head >= CAPACITY) {
+            fullWaits++;
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        return slots[(int) (t & MASK)];
+    }
+
+    void publish() {
+        long t = tail + 1;
+        tail = t;
+        int depth = (int) (t - head);
+        if (depth > maxDepth) maxDepth = depth;
+    }
+
+    // ★ 소비자: 다음 슬롯 (없으면 null) → 처리 후 release()
+    Slot peek() {
+        long h = head;
+        if (h == tail) return null;
+        return slots[(int) (h & MASK)];
+    }
+
+    void release() {
+        long h = head;
+        slots[(int) (h & MASK)].clear();
+        head = h + 1;
+    }
+
+    int size() {
+        return (int) (tail - head);
+    }
+
+    // 지금까지 게시된 슬롯 수 (아무 스레드) / 처리 끝난 슬롯 수 (소비자)
+    long published() { return tail; }
+    long consumed() { return head; }
+
+    int getMaxDepth() { return maxDepth; }
+    long getFullWaits() { return fullWaits; }
+}
@@ -0,0 +1,138 @@
+package io.github.freeze.net;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Net 연결 하나의 리스너 묶음 (받은 콜백을 등록된 모두에게)
+ * - primary: setListener로 바꿔 끼우는 화면 리스너 (기존 동작)
+ * - 나머지: addListener로 붙이는 관찰자 (봇 / 통계 등), 등록 순서대로 호출
+ * - 콜백 스레드에서 순회 중 추가·제거해도 안전 (copy-on-write)
+ */
+final class ListenerSet implements Net.Listener {
+    private volatile Net.Listener primary;
+    private final CopyOnWriteArrayList<Net.Listener> others = new CopyOnWriteArrayList<>();
+
+    void setPrimary(Net.Listener l) { primary = l; }
+    void add(Net.Listener l) { if (l != null) others.addIfAbsent(l); }
+    void remove(Net.Listener l) { others.remove(l); }
+
+    @Override public void onOpen() {
+        Net.Listener p = primary;
+        if (p != null) p.onOpen();
+        for (Net.Listener l : others) l.onOpen();
+    }
+
+    @Override public void onClose(int code, String reason, boolean remote) {
+        Net.Listener p = primary;
+        if (p != null) p.onClose(code, reason, remote);
+        for (Net.Listener l : others) l.onClose(code, reason, remote);
+    }
+
+    @Override public void onError(Throwable e) {
+        Net.Listener p = primary;
+        if (p != null) p.onError(e);
+        for (Net.Listener l : others) l.onError(e);
+    }
+
+    @Override public void onCreateRoomOk(String roomId) {
+        Net.Listener p = primary;
+        if (p != null) p.onCreateRoomOk(roomId);
+        for (Net.Listener l : others) l.onCreateRoomOk(roomId);
+    }
+
+    @Override public void onJoinOk(String roomId) {
+        Net.Listener p = primary;
+        if (p != null) p.onJoinOk(roomId);
+        for (Net.Listener l : others) l.onJoinOk(roomId);
+    }
+
+    @Override public void onServerError(String errCode, String message) {
+        Net.Listener p = primary;
+        if (p != null) p.onServerError(errCode, message);
+        for (Net.Listener l : others) l.onServerError(errCode, message);
+    }
+
+    @Override public void onReconnecting(int attempt, long delayMs) {
+        Net.Listener p = primary;
+        if (p != null) p.onReconnecting(attempt, delayMs);
+        for (Net.Listener l : others) l.onReconnecting(attempt, delayMs);
+    }
+
+    @Override public void onResumed() {
+        Net.Listener p = primary;
+        if (p != null) p.onResumed();
+        for (Net.Listener l : others) l.onResumed();
+    }
+
+    @Override public void onMoveAck(int seq, float x, float y) {
+        Net.Listener p = primary;
+        if (p != null) p.onMoveAck(seq, x, y);
+        for (Net.Listener l : others) l.onMoveAck(seq, x, y);
+    }
+
+    @Override public void onGameStart(GameStart start) {
+        Net.Listener p = primary;
+        if (p != null) p.onGameStart(start);
+        for (Net.Listener l : others) l.onGameStart(start);
+    }
+
+    @Override public void onPlayerMove(String playerId, float dx, float dy, float x, float y) {
+        Net.Listener p = primary;
+        if (p != null) p.onPlayerMove(playerId, dx, dy, x, y);
+        for (Net.Listener l : others) l.onPlayerMove(playerId, dx, dy, x, y);
+    }
+
+    @Override public void onPlayerMoveSlot(int slot, String playerId, float dx, float dy, float x, float y) {
+        Net.Listener p = primary;
+        if (p != null) p.onPlayerMoveSlot(slot, playerId, dx, dy, x, y);
+        for (Net.Listener l : others) l.onPlayerMoveSlot(slot, playerId, dx, dy, x, y);
+    }
+
+    @Override public void onPlayerFreeze(String targetId, String attackerId) {
+        Net.Listener p = primary;
+        if (p != null) p.onPlayerFreeze(targetId, attackerId);
+        for (Net.Listener l : others) l.onPlayerFreeze(targetId, attackerId);
+    }
+
+    @Override public void onPlayerUnfreeze(String targetId, String unfreezeId) {
+        Net.Listener p = primary;
+        if (p != null) p.onPlayerUnfreeze(targetId, unfreezeId);
+        for (Net.Listener l : others) l.onPlayerUnfreeze(targetId, unfreezeId);
+    }
+
+    @Override public void onSkillUsed(String playerId, String skillType, String targetId) {
+        Net.Listener p = primary;
+        if (p != null) p.onSkillUsed(playerId, skillType, targetId);
+        for (Net.Listener l : others) l.onSkillUsed(playerId, skillType, targetId);
+    }
+
+    @Override public void onFogActivated(String playerId) {
+        Net.Listener p = primary;
+        if (p != null) p.onFogActivated(playerId);
+        for (Net.Listener l : others) l.onFogActivated(playerId);
+    }
+
+    @Override public void onPlayerReady(String playerId, boolean isReady) {
+        Net.Listener p = primary;
+        if (p != null) p.onPlayerReady(playerId, isReady);
+        for (Net.Listener l : others) l.onPlayerReady(playerId, isReady);
+    }
+
+    @Override public void onPlayerJoined(String playerId, float x, float y) {
+        Net.Listener p = primary;
+        if (p != null) p.onPlayerJoined(playerId, x, y);
+        for (Net.Listener l : others) l.onPlayerJoined(playerId, x, y);
+    }
+
+    @Override public void onPlayerLeft(String playerId) {
+        Net.Listener p = primary;
+        if (p != null) p.onPlayerLeft(playerId);
+        for (Net.Listener l : others) l.onPlayerLeft(playerId);
+    }
+
+    @Override public void onWorldSnapshot(WorldSnapshot world) {
+        Net.Listener p = primary;
+        if (p != null) p.onWorldSnapshot(world);
+        for (Net.Listener l : others) l.onWorldSnapshot(world);
+    }
+}
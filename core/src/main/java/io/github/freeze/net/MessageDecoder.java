@@ -0,0 +1,377 @@
+package io.github.freeze.net;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JsonReader 기반 스트리밍 디코더 (JsonObject 트리 생성 없음)
+ * - 필드 순서와 무관하게 NetEvent 하나를 채움
+ * - batch 봉투({"type":"batch","msgs":[...]})면 이벤트마다 순서대로 Sink 호출
+ * - 이벤트 객체는 재사용 → Sink 호출 안에서만 유효
+ * - 한 스레드에서만 사용할 것
+ */
+public final class MessageDecoder {
+    private static final Map<String, NetEvent.Type> TYPES = new HashMap<>();
+    static {
+        TYPES.put("roomCreated", NetEvent.Type.ROOM_CREATED);
+        TYPES.put("playerJoined", NetEvent.Type.PLAYER_JOINED);
+        TYPES.put("gameStarted", NetEvent.Type.GAME_STARTED);
+        TYPES.put("playerMoved", NetEvent.Type.PLAYER_MOVED);
+        TYPES.put("playerLeft", NetEvent.Type.PLAYER_LEFT);
+        TYPES.put("playerReady", NetEvent.Type.PLAYER_READY);
+        TYPES.put("freeze", NetEvent.Type.FREEZE);
+        TYPES.put("unfreeze", NetEvent.Type.UNFREEZE);
+        TYPES.put("skillUse", NetEvent.Type.SKILL_USE);
+        TYPES.put("fogActivated", NetEvent.Type.FOG_ACTIVATED);
+        TYPES.put("worldState", NetEvent.Type.WORLD_STATE);
+        TYPES.put("pong", NetEvent.Type.PONG);
+        TYPES.put("resumed", NetEvent.Type.RESUMED);
+        TYPES.put("moveAck", NetEvent.Type.MOVE_ACK);
+        TYPES.put("error", NetEvent.Type.ERROR);
+    }
+
+    // 해석된 이벤트를 받는 쪽
+    public interface Sink {
+        void onEvent(NetEvent e);
+    }
+
+    private final NetEvent event = new NetEvent();
+
+    // type보다 snapshot이 먼저 온 경우에만 트리로 보관 (드묾)
+    private JsonObject pendingSnapshot;
+
+    // ★ 메시지 1개 해석 (batch면 안의 이벤트 수만큼 sink 호출)
+    public void decode(String msg, Sink sink) throws IOException {
+        JsonReader in = new JsonReader(new StringReader(msg));
+        begin();
+        boolean batch = false;
+
+        in.beginObject();
+        while (in.hasNext()) {
+            String field = in.nextName();
+            if ("msgs".equals(field) && in.peek() == JsonToken.BEGIN_ARRAY) {
+                // ★ batch 봉투: 이벤트를 하나씩 해석해서 바로 전달 (순서 유지)
+                batch = true;
+                in.beginArray();
+                while (in.hasNext()) {
+                    if (in.peek() != JsonToken.BEGIN_OBJECT) { in.skipValue(); continue; }
+                    begin();
+                    in.beginObject();
+                    while (in.hasNext()) readField(in, in.nextName());
+                    in.endObject();
+                    sink.onEvent(finish());
+                }
+                in.endArray();
+            } else {
+                readField(in, field);
+            }
+        }
+        in.endObject();
+
+        if (!batch) sink.onEvent(finish());
+    }
+
+    private void begin() {
+        event.reset();
+        pendingSnapshot = null;
+    }
+
+    private NetEvent finish() throws IOException {
+        if (pendingSnapshot != null) applySnapshotTree(pendingSnapshot);
+        pendingSnapshot = null;
+        return event;
+    }
+
+    private void readField(JsonReader in, String field) throws IOException {
+        switch (field) {
+            case "type":       event.type = typeOf(readString(in)); break;
+            case "playerId":   event.playerId = readString(in); break;
+            case "targetId":   event.targetId = readString(in); break;
+            case "attackerId": event.attackerId = readString(in); break;
+            case "unfreezeId": event.unfreezeId = readString(in); break;
+            case "skillType":  event.skillType = readString(in); break;
+            case "roomId":     event.roomId = readString(in); break;
+            case "dx":         event.dx = readFloat(in); break;
+            case "dy":         event.dy = readFloat(in); break;
+            case "x":          event.x = readFloat(in); break;
+            case "y":          event.y = readFloat(in); break;
+            case "isReady":    event.isReady = readBoolean(in); break;
+            case "slot":       event.slot = readInt(in); break;
+            case "caps":       readCaps(in); break;
+            case "data":       readCodeObject(in, "name"); break;      // roomCreated
+            case "payload":    readCodeObject(in, "message"); break;   // error
+            case "snapshot":   readSnapshot(in); break;
+            case "tick":       event.world.tick = readInt(in); break;         // worldState
+            case "players":    readWorldPlayers(in); break;                  // worldState
+            case "t0":         event.t0 = readLong(in); break;                // pong
+            case "t1":         event.t1 = readLong(in); break;
+            case "t2":         event.t2 = readLong(in); break;
+            case "seq":        event.seq = readInt(in); break;                // moveAck
+            case "resumeToken": event.resumeToken = readString(in); break;
+            case "udpPort":    event.udpPort = readInt(in); break;
+            case "udpToken":   event.udpToken = readString(in); break;
+            default:           in.skipValue(); break;
+        }
+    }
+
+    public static NetEvent.Type typeOf(String type) {
+        NetEvent.Type t = type != null ? TYPES.get(type) : null;
+        return t != null ? t : NetEvent.Type.UNKNOWN;
+    }
+
+    // ========== 중첩 객체 ==========
+
+    // data {code, name} / payload {code, message}
+    private void readCodeObject(JsonReader in, String textField) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) { in.skipValue(); return; }
+        in.beginObject();
+        while (in.hasNext()) {
+            String field = in.nextName();
+            if ("code".equals(field)) {
+                event.code = readString(in);
+            } else if ("resumeToken".equals(field)) {
+                event.resumeToken = readString(in);
+            } else if ("udpPort".equals(field)) {
+                event.udpPort = readInt(in);
+            } else if ("udpToken".equals(field)) {
+                event.udpToken = readString(in);
+            } else if (textField.equals(field)) {
+                String v = readString(in);
+                if ("name".equals(textField)) event.name = v; else event.message = v;
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+    }
+
+    private void readSnapshot(JsonReader in) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) { in.skipValue(); return; }
+
+        if (event.type == NetEvent.Type.PLAYER_JOINED) {
+            readJoinSnapshot(in);
+        } else if (event.type == NetEvent.Type.GAME_STARTED) {
+            event.gameStart = readGameStart(in);
+        } else {
+            // 아직 type을 모름 → 트리로 보관했다가 끝에서 해석
+            pendingSnapshot = JsonParser.parseReader(in).getAsJsonObject();
+        }
+    }
+
+    // ★ playerJoined 스냅샷 스트리밍 해석
+    private void readJoinSnapshot(JsonReader in) throws IOException {
+        in.beginObject();
+        while (in.hasNext()) {
+            String field = in.nextName();
+            if ("players".equals(field) && in.peek() == JsonToken.BEGIN_ARRAY) {
+                in.beginArray();
+                while (in.hasNext()) {
+                    if (in.peek() == JsonToken.BEGIN_OBJECT) {
+                        // 객체 {id, x, y}
+                        String id = "";
+                        int slot = SlotTable.NONE;
+                        float px = 0f, py = 0f;
+                        in.beginObject();
+                        while (in.hasNext()) {
+                            String f = in.nextName();
+                            if ("id".equals(f)) id = readString(in);
+                            else if ("x".equals(f)) px = readFloat(in);
+                            else if ("y".equals(f)) py = readFloat(in);
+                            else if ("slot".equals(f)) slot = readInt(in);
+                            else in.skipValue();
+                        }
+                        in.endObject();
+                        event.addJoined(id, slot, px, py);
+                    } else if (in.peek() == JsonToken.STRING) {
+                        // 문자열 (이전 버전 호환)
+                        event.addJoined(in.nextString(), SlotTable.NONE, 0f, 0f);
+                    } else {
+                        in.skipValue();
+                    }
+                }
+                in.endArray();
+            } else if ("ready_status".equals(field) && in.peek() == JsonToken.BEGIN_OBJECT) {
+                in.beginObject();
+                while (in.hasNext()) {
+                    String pid = in.nextName();
+                    event.addReady(pid, readBoolean(in));
+                }
+                in.endObject();
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+    }
+
+    // ★ gameStarted 스냅샷 스트리밍 해석 (roles / spawns / duration / startTime)
+    private static GameStart readGameStart(JsonReader in) throws IOException {
+        GameStart start = new GameStart();
+        in.beginObject();
+        while (in.hasNext()) {
+            String field = in.nextName();
+            if ("roles".equals(field) && in.peek() == JsonToken.BEGIN_OBJECT) {
+                in.beginObject();
+                while (in.hasNext()) {
+                    String pid = in.nextName();
+                    start.roles.put(pid, GameStart.roleOf(readString(in)));
+                }
+                in.endObject();
+            } else if ("spawns".equals(field) && in.peek() == JsonToken.BEGIN_OBJECT) {
+                in.beginObject();
+                while (in.hasNext()) {
+                    String pid = in.nextName();
+                    float[] pos = readPoint(in);
+                    if (pos != null) start.spawns.put(pid, pos);
+                }
+                in.endObject();
+            } else if ("duration".equals(field)) {
+                start.duration = readFloat(in);
+            } else if ("startTime".equals(field) || "serverStartTime".equals(field)) {
+                JsonToken t = in.peek();
+                if (t == JsonToken.NUMBER || t == JsonToken.STRING) start.serverStartTime = (long) in.nextDouble();
+                else in.skipValue();
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return start;
+    }
+
+    // {x, y} 또는 [x, y]
+    private static float[] readPoint(JsonReader in) throws IOException {
+        float[] p = new float[2];
+        if (in.peek() == JsonToken.BEGIN_OBJECT) {
+            in.beginObject();
+            while (in.hasNext()) {
+                String f = in.nextName();
+                if ("x".equals(f)) p[0] = readFloat(in);
+                else if ("y".equals(f)) p[1] = readFloat(in);
+                else in.skipValue();
+            }
+            in.endObject();
+            return p;
+        }
+        if (in.peek() == JsonToken.BEGIN_ARRAY) {
+            in.beginArray();
+            if (in.hasNext()) p[0] = readFloat(in);
+            if (in.hasNext()) p[1] = readFloat(in);
+            while (in.hasNext()) in.skipValue();
+            in.endArray();
+            return p;
+        }
+        in.skipValue();
+        return null;
+    }
+
+    private void applySnapshotTree(JsonObject snapshot) throws IOException {
+        if (event.type == NetEvent.Type.GAME_STARTED) {
+            // type이 늦게 온 드문 경우: 트리를 다시 스트리밍
+            event.gameStart = readGameStart(new JsonReader(new StringReader(snapshot.toString())));
+            return;
+        }
+        if (event.type != NetEvent.Type.PLAYER_JOINED) return;
+
+        if (snapshot.has("players") && snapshot.get("players").isJsonArray()) {
+            JsonArray arr = snapshot.getAsJsonArray("players");
+            for (int i = 0; i < arr.size(); i++) {
+                JsonElement elem = arr.get(i);
+                if (elem.isJsonObject()) {
+                    JsonObject p = elem.getAsJsonObject();
+                    event.addJoined(p.has("id") ? p.get("id").getAsString() : "",
+                                    p.has("slot") ? p.get("slot").getAsInt() : SlotTable.NONE,
+                                    p.has("x") ? p.get("x").getAsFloat() : 0f,
+                                    p.has("y") ? p.get("y").getAsFloat() : 0f);
+                } else if (elem.isJsonPrimitive()) {
+                    event.addJoined(elem.getAsString(), SlotTable.NONE, 0f, 0f);
+                }
+            }
+        }
+        if (snapshot.has("ready_status") && snapshot.get("ready_status").isJsonObject()) {
+            JsonObject ready = snapshot.getAsJsonObject("ready_status");
+            for (String pid : ready.keySet()) {
+                event.addReady(pid, ready.get(pid).getAsBoolean());
+            }
+        }
+    }
+
+    // ★ worldState players: [id 또는 slot, x, y, dx, dy, flags] 반복
+    private void readWorldPlayers(JsonReader in) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_ARRAY) { in.skipValue(); return; }
+        in.beginArray();
+        while (in.hasNext()) {
+            int slot = SlotTable.NONE;
+            String id = null;
+            if (in.peek() == JsonToken.STRING) id = in.nextString();
+            else slot = readInt(in);
+
+            float px = in.hasNext() ? readFloat(in) : 0f;
+            float py = in.hasNext() ? readFloat(in) : 0f;
+            float pdx = in.hasNext() ? readFloat(in) : 0f;
+            float pdy = in.hasNext() ? readFloat(in) : 0f;
+            int flags = in.hasNext() ? readInt(in) : 0;
+            event.world.add(slot, id, px, py, pdx, pdy, flags);
+        }
+        in.endArray();
+    }
+
+    private void readCaps(JsonReader in) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_ARRAY) { in.skipValue(); return; }
+        int caps = 0;
+        in.beginArray();
+        while (in.hasNext()) {
+            caps |= Caps.bitOf(readString(in));
+        }
+        in.endArray();
+        event.caps = caps;
+        event.hasCaps = true;
+    }
+
+    // ========== 값 읽기 (기존 getAsXxx와 같은 관대함) ==========
+    private static String readString(JsonReader in) throws IOException {
+        JsonToken t = in.peek();
+        if (t == JsonToken.NULL) { in.nextNull(); return null; }
+        if (t == JsonToken.BOOLEAN) return Boolean.toString(in.nextBoolean());
+        if (t != JsonToken.STRING && t != JsonToken.NUMBER) { in.skipValue(); return null; }
+        return in.nextString();
+    }
+
+    private static float readFloat(JsonReader in) throws IOException {
+        JsonToken t = in.peek();
+        if (t == JsonToken.NUMBER || t == JsonToken.STRING) return (float) in.nextDouble();
+        in.skipValue();
+        return 0f;
+    }
+
+    private static int readInt(JsonReader in) throws IOException {
+        JsonToken t = in.peek();
+        if (t == JsonToken.NUMBER || t == JsonToken.STRING) return (int) in.nextDouble();
+        in.skipValue();
+        return SlotTable.NONE;
+    }
+
+    private static long readLong(JsonReader in) throws IOException {
+        JsonToken t = in.peek();
+        if (t == JsonToken.NUMBER || t == JsonToken.STRING) return (long) in.nextDouble();
+        in.skipValue();
+        return 0L;
+    }
+
+    private static boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken t = in.peek();
+        if (t == JsonToken.BOOLEAN) return in.nextBoolean();
+        if (t == JsonToken.STRING) return Boolean.parseBoolean(in.nextString());
+        in.skipValue();
+        return false;
+    }
+}
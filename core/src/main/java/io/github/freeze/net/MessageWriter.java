@@ -0,0 +1,333 @@
+package io.github.freeze.net;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 송신 메시지 전용 JSON 작성기 (HashMap / 박싱 / Gson 리플렉션 없음)
+ * - 재사용 버퍼에 UTF-8로 직접 기록 → 반환된 버퍼는 다음 호출 전까지만 유효
+ * - 고정 문자열 조각은 미리 바이트로 만들어 둠
+ * - 한 스레드에서만 사용할 것
+ * - ★ 값이 null인 문자열 필드는 생략 (예전 Gson 직렬화와 같은 모양)
+ */
+public final class MessageWriter {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // 자주 쓰는 조각
+    private static final byte[] TYPE_OPEN = ascii("{\"type\":\"");
+    private static final byte[] PAYLOAD_OPEN = ascii("\",\"payload\":{");
+    private static final byte[] TYPE_CLOSE = ascii("\"}");
+    private static final byte[] MSG_CLOSE = ascii("}}");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+
+    private static final byte[] T_MOVE = ascii("move");
+    private static final byte[] T_FREEZE = ascii("freeze");
+    private static final byte[] T_UNFREEZE = ascii("unfreeze");
+    private static final byte[] T_SKILL_USE = ascii("skillUse");
+    private static final byte[] T_READY = ascii("ready");
+    private static final byte[] T_START = ascii("start");
+    private static final byte[] T_LEAVE = ascii("leave");
+    private static final byte[] T_JOIN = ascii("join");
+    private static final byte[] T_CREATE_ROOM = ascii("createRoom");
+    private static final byte[] T_GAME_READY = ascii("gameReady");
+    private static final byte[] T_MOVE_AREA = ascii("moveArea");
+    private static final byte[] T_PING = ascii("ping");
+    private static final byte[] T_RESUME = ascii("resume");
+
+    private static final byte[] K_PLAYER_ID = ascii("\"playerId\":");
+    private static final byte[] K_TARGET_ID = ascii("\"targetId\":");
+    private static final byte[] K_SKILL_TYPE = ascii("\"skillType\":");
+    private static final byte[] K_ROOM_ID = ascii("\"roomId\":");
+    private static final byte[] K_IS_READY = ascii("\"isReady\":");
+    private static final byte[] K_DX = ascii("\"dx\":");
+    private static final byte[] K_DY = ascii("\"dy\":");
+    private static final byte[] K_X = ascii("\"x\":");
+    private static final byte[] K_Y = ascii("\"y\":");
+    private static final byte[] K_CODE = ascii("\"code\":");
+    private static final byte[] K_TITLE = ascii("\"title\":");
+    private static final byte[] K_PASSWORD = ascii("\"password\":");
+    private static final byte[] K_CAPS = ascii("\"caps\":");
+    private static final byte[] K_SLOT = ascii("\"slot\":");
+    private static final byte[] K_W = ascii("\"w\":");
+    private static final byte[] K_H = ascii("\"h\":");
+    private static final byte[] K_T0 = ascii("\"t0\":");
+    private static final byte[] K_TOKEN = ascii("\"token\":");
+    private static final byte[] K_SEQ = ascii("\"seq\":");
+    private static final byte[] K_STEPS = ascii("\"steps\":");
+
+    private ByteBuffer buf = ByteBuffer.allocate(INITIAL_CAPACITY);
+    private final byte[] digits = new byte[20];
+    private boolean firstField;  // payload에 아직 필드가 없음 → 다음 키 앞에 쉼표 없음
+
+    // ====== 메시지별 작성기 ======
+
+    // ★ 이동 (매 틱 호출되는 경로: 할당 없음)
+    public ByteBuffer move(String playerId, float dx, float dy, float x, float y) {
+        begin(T_MOVE);
+        stringField(K_PLAYER_ID, playerId);
+        key(K_DX); number(dx);
+        key(K_DY); number(dy);
+        key(K_X); number(x);
+        key(K_Y); number(y);
+        return end();
+    }
+
+    // ★ 슬롯 이동 (SLOT_IDS 협상 시 playerId 대신)
+    public ByteBuffer moveSlot(int slot, float dx, float dy, float x, float y) {
+        begin(T_MOVE);
+        key(K_SLOT); integer(slot);
+        key(K_DX); number(dx);
+        key(K_DY); number(dy);
+        key(K_X); number(x);
+        key(K_Y); number(y);
+        return end();
+    }
+
+    // ★ 권위 이동 입력 (AUTH_MOVE): seq까지 steps개 고정 스텝을 dx, dy로, x, y는 클라 예측 결과
+    //   slot이 유효하면 playerId 대신 슬롯
+    public ByteBuffer moveInput(String playerId, int slot, int seq, int steps, float dx, float dy, float x, float y) {
+        begin(T_MOVE);
+        if (SlotTable.isValid(slot)) {
+            key(K_SLOT); integer(slot);
+        } else {
+            stringField(K_PLAYER_ID, playerId);
+        }
+        key(K_SEQ); integer(seq);
+        key(K_STEPS); integer(steps);
+        key(K_DX); number(dx);
+        key(K_DY); number(dy);
+        key(K_X); number(x);
+        key(K_Y); number(y);
+        return end();
+    }
+
+    // ★ 델타 이동 프레임의 양자화 기준 영역
+    public ByteBuffer moveArea(float x, float y, float w, float h) {
+        begin(T_MOVE_AREA);
+        key(K_X); number(x);
+        key(K_Y); number(y);
+        key(K_W); number(w);
+        key(K_H); number(h);
+        return end();
+    }
+
+    public ByteBuffer freeze(String targetId) {
+        begin(T_FREEZE);
+        stringField(K_TARGET_ID, targetId);
+        return end();
+    }
+
+    public ByteBuffer unfreeze(String targetId) {
+        begin(T_UNFREEZE);
+        stringField(K_TARGET_ID, targetId);
+        return end();
+    }
+
+    public ByteBuffer skillUse(String skillType, String targetId) {
+        begin(T_SKILL_USE);
+        stringField(K_SKILL_TYPE, skillType);
+        stringField(K_TARGET_ID, targetId);
+        return end();
+    }
+
+    public ByteBuffer ready(String playerId, boolean isReady) {
+        begin(T_READY);
+        stringField(K_PLAYER_ID, playerId);
+        key(K_IS_READY); put(isReady ? TRUE : FALSE);
+        return end();
+    }
+
+    public ByteBuffer gameStart(String roomId) {
+        begin(T_START);
+        stringField(K_ROOM_ID, roomId);
+        return end();
+    }
+
+    public ByteBuffer leave(String roomId, String playerId) {
+        begin(T_LEAVE);
+        stringField(K_ROOM_ID, roomId);
+        stringField(K_PLAYER_ID, playerId);
+        return end();
+    }
+
+    // ★ 재연결 후 세션 이어받기 (서버가 resumed 스냅샷으로 응답)
+    public ByteBuffer resume(String token, String roomId, String playerId, String[] caps) {
+        begin(T_RESUME);
+        stringField(K_TOKEN, token);
+        stringField(K_ROOM_ID, roomId);
+        stringField(K_PLAYER_ID, playerId);
+        key(K_CAPS); stringArray(caps);
+        return end();
+    }
+
+    public ByteBuffer join(String roomId, String playerId, String[] caps) {
+        begin(T_JOIN);
+        stringField(K_ROOM_ID, roomId);
+        stringField(K_PLAYER_ID, playerId);
+        key(K_CAPS); stringArray(caps);
+        return end();
+    }
+
+    public ByteBuffer createRoom(String code, String title, String password, String playerId, String[] caps) {
+        begin(T_CREATE_ROOM);
+        stringField(K_CODE, code);
+        stringField(K_TITLE, title);
+        stringField(K_PASSWORD, password);
+        stringField(K_PLAYER_ID, playerId);
+        key(K_CAPS); stringArray(caps);
+        return end();
+    }
+
+    // ★ 시계 동기화 (서버는 t0를 그대로 돌려주며 t1/t2를 붙임)
+    public ByteBuffer ping(long t0) {
+        begin(T_PING);
+        key(K_T0); integer(t0);
+        return end();
+    }
+
+    // payload 없는 메시지
+    public ByteBuffer gameReady() {
+        buf.clear();
+        put(TYPE_OPEN);
+        put(T_GAME_READY);
+        put(TYPE_CLOSE);
+        buf.flip();
+        return buf;
+    }
+
+    // ====== 기본 조각 ======
+    private void begin(byte[] type) {
+        buf.clear();
+        put(TYPE_OPEN);
+        put(type);
+        put(PAYLOAD_OPEN);
+        firstField = true;
+    }
+
+    private ByteBuffer end() {
+        put(MSG_CLOSE);
+        buf.flip();
+        return buf;
+    }
+
+    private void key(byte[] key) {
+        if (!firstField) putByte(',');
+        firstField = false;
+        put(key);
+    }
+
+    // null이면 키째로 생략
+    private void stringField(byte[] key, String value) {
+        if (value == null) return;
+        key(key);
+        string(value);
+    }
+
+    private void stringArray(String[] values) {
+        putByte('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) putByte(',');
+            string(values[i]);
+        }
+        putByte(']');
+    }
+
+    // ★ JSON 문자열 (이스케이프 + UTF-8 인코딩을 직접 수행)
+    private void string(String s) {
+        if (s == null) {
+            putByte('n'); putByte('u'); putByte('l'); putByte('l');
+            return;
+        }
+        putByte('"');
+        int n = s.length();
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                putByte('\\'); putByte(c);
+            } else if (c < 0x20) {
+                putByte('\\'); putByte('u'); putByte('0'); putByte('0');
+                putByte(hex(c >> 4)); putByte(hex(c & 0xF));
+            } else if (c < 0x80) {
+                putByte(c);
+            } else if (c < 0x800) {
+                putByte(0xC0 | (c >> 6));
+                putByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                putByte(0xF0 | (cp >> 18));
+                putByte(0x80 | ((cp >> 12) & 0x3F));
+                putByte(0x80 | ((cp >> 6) & 0x3F));
+                putByte(0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                putByte('?');  // 짝 없는 서로게이트
+            } else {
+                putByte(0xE0 | (c >> 12));
+                putByte(0x80 | ((c >> 6) & 0x3F));
+                putByte(0x80 | (c & 0x3F));
+            }
+        }
+        putByte('"');
+    }
+
+    private void integer(long v) {
+        if (v < 0) {
+            putByte('-');
+            v = -v;
+        }
+        int len = 0;
+        do {
+            digits[len++] = (byte) ('0' + (v % 10));
+            v /= 10;
+        } while (v > 0);
+        while (len > 0) putByte(digits[--len]);
+    }
+
+    // ★ 소수점 3자리 고정 (Float.toString 할당 없음, 뒤쪽 0 생략)
+    private void number(float v) {
+        if (Float.isNaN(v) || Float.isInfinite(v)) v = 0f;
+        long scaled = Math.round((double) v * 1000.0);
+        if (scaled < 0) {
+            putByte('-');
+            scaled = -scaled;
+        }
+        integer(scaled / 1000);
+        int fp = (int) (scaled % 1000);
+
+        if (fp != 0) {
+            putByte('.');
+            putByte('0' + fp / 100);
+            if (fp % 100 != 0) {
+                putByte('0' + (fp / 10) % 10);
+                if (fp % 10 != 0) putByte('0' + fp % 10);
+            }
+        }
+    }
+
+    private void put(byte[] b) {
+        ensure(b.length);
+        buf.put(b);
+    }
+
+    private void putByte(int b) {
+        ensure(1);
+        buf.put((byte) b);
+    }
+
+    // 긴 방 제목 등 드문 경우에만 버퍼 확장
+    private void ensure(int n) {
+        if (buf.remaining() >= n) return;
+        ByteBuffer bigger = ByteBuffer.allocate(Math.max(buf.capacity() * 2, buf.position() + n));
+        buf.flip();
+        bigger.put(buf);
+        buf = bigger;
+    }
+
+    private static byte hex(int v) {
+        return (byte) (v < 10 ? '0' + v : 'a' + v - 10);
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
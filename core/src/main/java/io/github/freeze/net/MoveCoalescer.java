@@ -0,0 +1,123 @@
+package io.github.freeze.net;
+
+import java.util.ArrayDeque;
+
+/**
+ * 수신 이동 합치기 (WebSocket 스레드 → 렌더 스레드)
+ * - 플레이어별 최신 이동만 남김 → 렌더 프레임당 플레이어 1회 적용
+ * - 신뢰 이벤트(freeze 등)가 오면 그때까지 모인 이동을 봉인(seal)해서 이벤트 앞에 붙임
+ *   → 이벤트 전에 온 이동은 이벤트 전에, 뒤에 온 이동은 뒤에 적용
+ * - 키: playerId (없으면 슬롯 번호)
+ * - 묶음(Batch)과 그 안의 Move는 재사용: 렌더 스레드가 적용 후 release로 돌려줌
+ *   보통 모으는 것 / 적용 중인 것 두 개로 돌고, 봉인된 묶음이 쌓일 때만 새로 만듦
+ */
+final class MoveCoalescer {
+
+    // 합쳐진 이동 묶음 (넣은 순서, 플레이어 수가 적어서 선형 검색)
+    static final class Batch {
+        private MoveCodec.Move[] moves = new MoveCodec.Move[8];
+        private int size;
+        private long mark;  // 묶음 안 이동이 도착했을 때의 가장 큰 위치 (offer에 넘긴 값)
+
+        int size() { return size; }
+        MoveCodec.Move get(int i) { return moves[i]; }
+        long mark() { return mark; }
+
+        private MoveCodec.Move find(int slot, String playerId) {
+            for (int i = 0; i < size; i++) {
+                MoveCodec.Move m = moves[i];
+                if (playerId != null ? playerId.equals(m.playerId) : m.playerId == null && m.slot == slot) return m;
+            }
+            return null;
+        }
+
+        // 다음 칸의 Move (예전에 쓰던 객체 재사용, 처음 늘어날 때만 할당)
+        private MoveCodec.Move add() {
+            if (size == moves.length) {
+                MoveCodec.Move[] bigger = new MoveCodec.Move[size * 2];
+                System.arraycopy(moves, 0, bigger, 0, size);
+                moves = bigger;
+            }
+            MoveCodec.Move m = moves[size];
+            if (m == null) {
+                m = new MoveCodec.Move();
+                moves[size] = m;
+            }
+            size++;
+            return m;
+        }
+    }
+
+    private Batch pending = new Batch();
+    private final ArrayDeque<Batch> free = new ArrayDeque<>();
+    private boolean drainScheduled;
+    private int generation;
+    private int coalesced;
+
+    /**
+     * WS 스레드: 최신 이동으로 덮어씀
+     * @return 새로 drain을 예약해야 하면 그 세대 번호, 이미 예약돼 있으면 -1
+     */
+    int offer(int slot, String playerId, float dx, float dy, float x, float y) {
+        return offer(slot, playerId, dx, dy, x, y, 0L);
+    }
+
+    // mark: 도착 시점 (다른 스트림과 순서를 맞출 때, 예: 수신 링 위치)
+    synchronized int offer(int slot, String playerId, float dx, float dy, float x, float y, long mark) {
+        if (mark > pending.mark) pending.mark = mark;
+        MoveCodec.Move m = pending.find(slot, playerId);
+        if (m == null) {
+            m = pending.add();
+        } else {
+            coalesced++;  // 렌더 스레드가 보기 전에 덮어씀
+        }
+        m.slot = slot;
+        m.playerId = playerId;
+        m.dx = dx;
+        m.dy = dy;
+        m.x = x;
+        m.y = y;
+
+        if (drainScheduled) return -1;
+        drainScheduled = true;
+        return generation;
+    }
+
+    // 렌더 스레드: 예약된 drain (그 사이 seal됐으면 다음 예약이 처리하므로 null)
+    synchronized Batch drain(int gen) {
+        if (gen != generation) return null;
+        drainScheduled = false;
+        return takePending();
+    }
+
+    // WS 스레드: 신뢰 이벤트 도착 → 지금까지 모인 이동을 떼어냄 (없으면 null)
+    synchronized Batch seal() {
+        generation++;
+        drainScheduled = false;
+        return takePending();
+    }
+
+    // 렌더 스레드: 적용이 끝난 묶음 반환 (drain / seal로 받은 것만)
+    synchronized void release(Batch batch) {
+        if (batch == null) return;
+        batch.size = 0;
+        batch.mark = 0L;
+        free.push(batch);
+    }
+
+    synchronized boolean isEmpty() {
+        return pending.size == 0;
+    }
+
+    // 덮어써서 버려진 이동 수 (통계)
+    synchronized int getCoalesced() {
+        return coalesced;
+    }
+
+    private Batch takePending() {
+        if (pending.size == 0) return null;
+        Batch out = pending;
+        pending = free.isEmpty() ? new Batch() : free.pop();
+        return out;
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.freeze.net;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * move / playerMoved 바이너리 프레임 코덱 (고정 레이아웃, big-endian)
+ *
+ *  [0]    op     u8   (OP_MOVE: 클라→서버, OP_PLAYER_MOVED: 서버→클라)
+ *  [1]    dx     i8   (방향 * 127)
+ *  [2]    dy     i8
+ *  [3..4] x      i16  (1/8 px 고정소수점)
+ *  [5..6] y      i16
+ *  [7]    idLen  u8
+ *  [8..]  id     UTF-8
+ *
+ * JSON 약 100바이트 → 8 + id 길이
+ *
+ * ★ 슬롯 프레임 (SLOT_IDS 협상 시, id 문자열 대신 슬롯 번호)
+ *  [0]    op     u8   (OP_MOVE_SLOT / OP_PLAYER_MOVED_SLOT)
+ *  [1]    slot   u8
+ *  [2]    dx     i8
+ *  [3]    dy     i8
+ *  [4..5] x      i16
+ *  [6..7] y      i16
+ *
+ * 항상 8바이트
+ */
+public final class MoveCodec {
+    public static final byte OP_MOVE = 0x01;
+    public static final byte OP_PLAYER_MOVED = 0x02;
+    public static final byte OP_MOVE_SLOT = 0x03;
+    public static final byte OP_PLAYER_MOVED_SLOT = 0x04;
+
+    public static final int HEADER_SIZE = 8;
+    public static final int MAX_ID_BYTES = 64;
+    public static final int MAX_FRAME = HEADER_SIZE + MAX_ID_BYTES;
+    public static final int SLOT_FRAME_SIZE = 8;
+
+    // ★ 좌표 양자화: 1/8 px → i16 범위 ±4096px (맵 최대 2560px)
+    private static final float POS_SCALE = 8f;
+    private static final float DIR_SCALE = 127f;
+
+    // 디코딩 결과
+    public static final class Move {
+        public String playerId;         // 슬롯 프레임이면 null
+        public int slot = SlotTable.NONE;
+        public float dx, dy, x, y;
+    }
+
+    // 마지막으로 인코딩한 ID 캐시 (매 틱 getBytes 방지)
+    private String cachedId;
+    private byte[] cachedIdBytes;
+
+    // ★ 이동 프레임 작성 (buf는 재사용, flip된 상태로 반환)
+    public ByteBuffer encode(ByteBuffer buf, byte op, String playerId, float dx, float dy, float x, float y) {
+        byte[] id = idBytes(playerId);
+        buf.clear();
+        buf.put(op);
+        buf.put(quantizeDir(dx));
+        buf.put(quantizeDir(dy));
+        buf.putShort(quantizePos(x));
+        buf.putShort(quantizePos(y));
+        buf.put((byte) id.length);
+        buf.put(id);
+        buf.flip();
+        return buf;
+    }
+
+    // ★ 슬롯 프레임 작성
+    public ByteBuffer encodeSlot(ByteBuffer buf, byte op, int slot, float dx, float dy, float x, float y) {
+        buf.clear();
+        buf.put(op);
+        buf.put((byte) slot);
+        buf.put(quantizeDir(dx));
+        buf.put(quantizeDir(dy));
+        buf.putShort(quantizePos(x));
+        buf.putShort(quantizePos(y));
+        buf.flip();
+        return buf;
+    }
+
+    // ★ 프레임 해석 (알 수 없는 op 또는 잘린 프레임이면 false)
+    public static boolean decode(ByteBuffer buf, Move out) {
+        if (buf.remaining() < HEADER_SIZE) return false;
+        byte op = buf.get();
+        if (op == OP_PLAYER_MOVED_SLOT || op == OP_MOVE_SLOT) {
+            out.playerId = null;
+            out.slot = buf.get() & 0xFF;
+            out.dx = buf.get() / DIR_SCALE;
+            out.dy = buf.get() / DIR_SCALE;
+            out.x = buf.getShort() / POS_SCALE;
+            out.y = buf.getShort() / POS_SCALE;
+            return true;
+        }
+        if (op != OP_PLAYER_MOVED && op != OP_MOVE) return false;
+        out.slot = SlotTable.NONE;
+
+        out.dx = buf.get() / DIR_SCALE;
+        out.dy = buf.get() / DIR_SCALE;
+        out.x = buf.getShort() / POS_SCALE;
+        out.y = buf.getShort() / POS_SCALE;
+
+        int idLen = buf.get() & 0xFF;
+        if (idLen > buf.remaining()) return false;
+        byte[] id = new byte[idLen];
+        buf.get(id);
+        out.playerId = new String(id, StandardCharsets.UTF_8);
+        return true;
+    }
+
+    // ★ ID가 바이너리 프레임에 들어가는지 (너무 길면 송신 쪽이 JSON으로 보냄, 결과도 캐시)
+    boolean fitsId(String playerId) {
+        if (playerId == null) playerId = "";
+        if (!playerId.equals(cachedId)) {
+            byte[] b = playerId.getBytes(StandardCharsets.UTF_8);
+            cachedId = playerId;
+            cachedIdBytes = b.length <= MAX_ID_BYTES ? b : null;
+        }
+        return cachedIdBytes != null;
+    }
+
+    byte[] idBytes(String playerId) {
+        if (!fitsId(playerId)) {
+            throw new IllegalArgumentException("playerId too long for a binary frame");
+        }
+        return cachedIdBytes;
+    }
+
+    static short quantizePos(float v) {
+        int q = Math.round(v * POS_SCALE);
+        if (q > Short.MAX_VALUE) q = Short.MAX_VALUE;
+        if (q < Short.MIN_VALUE) q = Short.MIN_VALUE;
+        return (short) q;
+    }
+
+    static byte quantizeDir(float v) {
+        if (v > 1f) v = 1f;
+        if (v < -1f) v = -1f;
+        return (byte) Math.round(v * DIR_SCALE);
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.freeze.net;
+
+/**
+ * 내 이동을 언제 보낼지 결정 (화면마다 하나, 렌더 스레드 전용)
+ * - 방향 / 상태(대시·공격 등)가 바뀌면 바로 전송
+ * - 아니면 받는 쪽 예측(마지막 전송 위치 + 방향 × 속도 × 경과)과 실제 위치 차이가 threshold를 넘을 때
+ *   또는 keyframe 간격이 지났을 때만
+ * - 송신 큐가 쌓이거나 RTT가 오르면 간격 / threshold를 최대 MAX_BACKOFF배까지 늘림
+ * - 막혀서 안 움직인 축은 방향 0으로 (보낼 방향은 getDx / getDy)
+ */
+public final class MoveSendPolicy {
+    public static final float DEFAULT_ERROR_THRESHOLD = 6f;     // 픽셀
+    public static final float DEFAULT_KEYFRAME_INTERVAL = 0.2f; // 초
+    public static final float MIN_INTERVAL = 0.02f;             // ★ 예전 고정 주기 (20ms)
+    public static final float MAX_BACKOFF = 4f;
+
+    // 혼잡 판단 구간 (LOW 이하 1배 → HIGH 이상 MAX_BACKOFF배)
+    private static final int DEPTH_LOW = 8;
+    private static final int DEPTH_HIGH = 64;
+    private static final float RTT_LOW_MS = 120f;
+    private static final float RTT_HIGH_MS = 400f;
+    private static final float BACKOFF_DECAY = 1f;  // 초당 회복 비율 (오를 때는 즉시)
+
+    // 혼잡 신호 (기본은 Net의 송신 큐 깊이 / RTT)
+    interface Load {
+        int outboundDepth();
+        float rttMillis();  // 측정 전이면 0
+    }
+
+    private final Load load;
+    private float errorThreshold = DEFAULT_ERROR_THRESHOLD;
+    private float keyframeInterval = DEFAULT_KEYFRAME_INTERVAL;
+
+    // 마지막으로 보낸 값 (받는 쪽이 아는 상태)
+    private boolean hasSent;
+    private float sentDx, sentDy, sentX, sentY, sentSpeed;
+    private int sentState;
+    private float sinceSend;
+
+    // 직전 프레임 위치 (막힌 축 판단)
+    private boolean hasPrev;
+    private float prevX, prevY;
+
+    private float backoff = 1f;
+    private long sent, skipped;
+
+    public MoveSendPolicy(final Net net) {
+        this(new Load() {
+            @Override public int outboundDepth() { return net.getOutboundDepth(); }
+            @Override public float rttMillis() { return net.hasRtt() ? net.getRttMillis() : 0f; }
+        });
+    }
+
+    MoveSendPolicy(Load load) {
+        this.load = load;
+    }
+
+    public void setThresholds(float errorThreshold, float keyframeInterval) {
+        this.errorThreshold = errorThreshold;
+        this.keyframeInterval = keyframeInterval;
+    }
+
+    /**
+     * ★ 이동 중 매 프레임 호출 (dx, dy는 입력 방향, state는 PlayerState.ordinal() 등)
+     * @return true면 지금 보낼 것 (보낸 것으로 기록됨)
+     */
+    public boolean update(float delta, float dx, float dy, float x, float y, float speed, int state) {
+        sinceSend += delta;
+        if (hasPrev) {
+            // 벽을 따라 미끄러지면 그 축만, 완전히 막히면 정지로 보냄 (받는 쪽 예측이 벽을 뚫지 않게)
+            if (x == prevX) dx = 0f;
+            if (y == prevY) dy = 0f;
+        }
+        hasPrev = true;
+        prevX = x;
+        prevY = y;
+        updateBackoff(delta);
+
+        boolean send;
+        if (!hasSent || dx != sentDx || dy != sentDy || state != sentState) {
+            send = true;  // 방향 / 상태 변화는 기다리지 않음
+        } else if (sinceSend < MIN_INTERVAL * backoff) {
+            send = false;
+        } else {
+            send = sinceSend >= keyframeInterval * backoff || predictionError(x, y) > errorThreshold * backoff;
+        }
+
+        if (!send) {
+            skipped++;
+            return false;
+        }
+        hasSent = true;
+        sentDx = dx;
+        sentDy = dy;
+        sentX = x;
+        sentY = y;
+        sentSpeed = speed;
+        sentState = state;
+        sinceSend = 0f;
+        sent++;
+        return true;
+    }
+
+    // 멈춤 / 화면 전환 (정지 메시지는 화면이 따로 보냄) → 다음 이동은 바로 전송
+    public void reset() {
+        hasSent = false;
+        hasPrev = false;  // 멈춘 자리에서 다시 출발해도 막힌 축으로 보지 않음
+        sinceSend = 0f;
+    }
+
+    // 마지막으로 보내기로 한 방향 (update가 true일 때 이 값으로 전송)
+    public float getDx() { return sentDx; }
+    public float getDy() { return sentDy; }
+    public float getBackoff() { return backoff; }
+
+    public String report() {
+        long total = sent + skipped;
+        return "sent=" + sent + " skipped=" + skipped
+                + String.format(" ratio=%.2f backoff=%.2f", total > 0 ? sent / (float) total : 0f, backoff);
+    }
+
+    // 받는 쪽이 지금 그리고 있을 위치와의 거리
+    private float predictionError(float x, float y) {
+        float len = (float) Math.sqrt(sentDx * sentDx + sentDy * sentDy);
+        float px = sentX, py = sentY;
+        if (len > 0f) {
+            float travel = sentSpeed * sinceSend / len;
+            px += sentDx * travel;
+            py += sentDy * travel;
+        }
+        float ex = x - px, ey = y - py;
+        return (float) Math.sqrt(ex * ex + ey * ey);
+    }
+
+    private void updateBackoff(float delta) {
+        float level = Math.max(ramp(load.outboundDepth(), DEPTH_LOW, DEPTH_HIGH),
+                ramp(load.rttMillis(), RTT_LOW_MS, RTT_HIGH_MS));
+        float target = 1f + level * (MAX_BACKOFF - 1f);
+        if (target >= backoff) {
+            backoff = target;
+        } else {
+            backoff += (target - backoff) * Math.min(1f, delta * BACKOFF_DECAY);
+        }
+    }
+
+    private static float ramp(float v, float low, float high) {
+        if (v <= low) return 0f;
+        if (v >= high) return 1f;
+        return (v - low) / (high - low);
+    }
+}
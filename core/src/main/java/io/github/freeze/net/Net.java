@@ -1,17 +1,34 @@
 package io.github.freeze.net;
 
 import com.badlogic.gdx.Gdx;
-import com.google.gson.*;
+import io.github.freeze.log.Log;
+import org.java_websocket.WebSocket;
 import org.java_websocket.client.WebSocketClient;
 import org.java_websocket.drafts.Draft_6455;
+import org.java_websocket.framing.Framedata;
 import org.java_websocket.handshake.ServerHandshake;
 
+import java.io.IOException;
 import java.net.URI;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.ArrayDeque;
-import java.util.Queue;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 서버 연결 하나 (WebSocket + 송수신 상태)
+ * - 게임 클라이언트는 기본 인스턴스 Net.get() 사용 (콜백은 렌더 스레드)
+ * - 봇 / 부하 테스트: new Net(executor)로 한 JVM에 여러 개 (콜백은 executor에서)
+ */
 public final class Net {
     public interface Listener {
         default void onOpen() {}
@@ -21,10 +38,21 @@ public final class Net {
         default void onJoinOk(String roomId) {}
         default void onServerError(String errCode, String message) {}
         
+        // ★ 자동 재연결 (attempt번째 시도를 delayMs 뒤에) / 세션 재개 완료
+        default void onReconnecting(int attempt, long delayMs) {}
+        default void onResumed() {}
+        
+        // ★ 권위 이동 (AUTH_MOVE): 서버가 seq까지 처리한 내 위치 → 화면이 남은 입력을 다시 적용
+        default void onMoveAck(int seq, float x, float y) {}
+        
         // 게임 관련
-        default void onGameStart(String roleJson) {}
+        default void onGameStart(GameStart start) {}  // ★ 역할 / 스폰 / 시간 (해석 완료)
         // ★★★ 수정: dx, dy 파라미터 추가 ★★★
         default void onPlayerMove(String playerId, float dx, float dy, float x, float y) {}
+        // ★ 슬롯 번호 포함 이동 (slot은 SlotTable.NONE일 수 있음, 기본은 onPlayerMove로 위임)
+        default void onPlayerMoveSlot(int slot, String playerId, float dx, float dy, float x, float y) {
+            onPlayerMove(playerId, dx, dy, x, y);
+        }
         default void onPlayerFreeze(String targetId, String attackerId) {}
         default void onPlayerUnfreeze(String targetId, String unfreezeId) {}
         default void onSkillUsed(String playerId, String skillType, String targetId) {}  // ★ targetId 추가
@@ -32,21 +60,142 @@ public final class Net {
         default void onPlayerReady(String playerId, boolean isReady) {}
         default void onPlayerJoined(String playerId, float x, float y) {}  // ★ x, y 추가
         default void onPlayerLeft(String playerId) {}
+        
+        // ★ 틱 단위 전체 상태 (기본은 플레이어마다 onPlayerMoveSlot)
+        default void onWorldSnapshot(WorldSnapshot world) {
+            for (int i = 0; i < world.count; i++) {
+                if (world.ids[i] == null) continue;
+                onPlayerMoveSlot(world.slots[i], world.ids[i], world.dx[i], world.dy[i], world.x[i], world.y[i]);
+            }
+        }
     }
 
+    // ★ 서버 주소 (포트 9090)
+    public static final String DEFAULT_URL = "ws://203.234.62.48:9090/ws";
+    // ★ 후보 서버 (connectBest가 가장 가까운 곳 선택, 서버를 늘리면 여기에 추가)
+    public static final String[] DEFAULT_ENDPOINTS = { DEFAULT_URL };
+    
     private static final Net I = new Net();
-    public static Net get() { return I; }
-    private final Gson gson = new Gson();
+    public static Net get() { return I; }  // ★ 게임 클라이언트용 기본 연결
+    
+    // ★ 오프라인 대기열 (키별 대체 + 최대 개수 + TTL)
+    private final OfflineQueue sendQueue = new OfflineQueue();
+    private volatile WebSocketClient ws;
+    private boolean ready;  // onOpen에서 resume / 대기열을 넣은 뒤 true (그 전 송신은 대기열로)
+    private static final long UNSENT_WAIT_MS = 100L;  // 재연결 시 이전 연결 링 정리 대기
+    private final ListenerSet listeners = new ListenerSet();
     
-    private final Queue<Object> sendQueue = new ArrayDeque<>();
-    private WebSocketClient ws;
-    private Listener listener;
+    // ★ 콜백 실행 위치: null이면 libGDX 렌더 스레드 (postRunnable + 화면이 drainEvents)
+    private final Executor executor;
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Runnable drainTask = this::drainScheduled;
     
     private volatile String lastRoomId;
     private volatile String lastErrCode;
     private volatile String lastErrMsg;
     
-    private Net() {}
+    // ★ permessage-deflate (다음 connect부터 적용)
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 256;
+    private boolean compression = true;
+    private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+    private final CompressionStats compressionStats = new CompressionStats();
+    
+    // ★ 이 연결에서 서버가 수락한 기능 (Caps 비트)
+    private volatile int caps;
+    
+    // ★ 타입별 처리기 + 시간 집계 (렌더 스레드 전용)
+    private final HandlerRegistry handlers = new HandlerRegistry();
+    
+    // ★ 송신 JSON 작성기 (이동 전송 시 가비지 없음)
+    private final MessageWriter writer = new MessageWriter();
+    
+    // ★ 송신 스레드: 게임 스레드는 링에 복사만, 압축·소켓 쓰기는 여기서
+    private final NetWriter netWriter = new NetWriter();
+    
+    // ★ 프레임 단위 송신 묶음 (flushFrame에서 한 번에 전송)
+    private final OutboundBatch batch = new OutboundBatch();
+    
+    // ★ 바이너리 이동 프레임 (송신 버퍼 재사용)
+    private final MoveCodec moveCodec = new MoveCodec();
+    private final ByteBuffer moveBuf = ByteBuffer.allocate(Math.max(MoveCodec.MAX_FRAME, DeltaMoveCodec.MAX_FRAME));
+    
+    // ★ 델타 이동 프레임 (이동 영역 기준 양자화)
+    private final DeltaMoveCodec deltaCodec = new DeltaMoveCodec();
+    
+    // ★ 방 단위 슬롯 ↔ playerId (렌더 스레드 전용)
+    private final SlotTable slots = new SlotTable();
+    
+    // ★ 수신 이동 합치기 (WS 스레드에서 플레이어별 최신값만 유지)
+    private final MoveCoalescer coalescer = new MoveCoalescer();
+    
+    // ★ 수신 이벤트 링 (WS 스레드 → 렌더 스레드, 프레임마다 예산만큼 처리)
+    public static final int DEFAULT_DRAIN_MAX_EVENTS = 256;
+    public static final float DEFAULT_DRAIN_BUDGET_MS = 4f;
+    private final InboundRing inbound = new InboundRing();
+    private int drainMaxEvents = DEFAULT_DRAIN_MAX_EVENTS;
+    private long drainBudgetNanos = (long) (DEFAULT_DRAIN_BUDGET_MS * 1000000L);
+    private long lastDrainFrame = -1;
+    private long spilledFrames;  // 예산 초과로 다음 프레임에 남긴 횟수
+    
+    // ★ WS 스레드 전용: 스트리밍 디코더 + 이동 해석 결과
+    //   해석·검증·이동 합치기는 여기서 끝내고 렌더 스레드에는 적용할 이벤트만 넘김
+    private final MessageDecoder wsDecoder = new MessageDecoder();
+    private final MessageDecoder.Sink wsSink = this::acceptEvent;
+    private final MoveCodec.Move wsMove = new MoveCodec.Move();
+    private final AtomicLong rejected = new AtomicLong();     // 검증 실패로 버린 이벤트
+    private final AtomicLong parseErrors = new AtomicLong();  // 해석 실패 메시지
+    
+    // ★ 마지막으로 적용한 worldState 틱 (늦게 온 스냅샷 버림)
+    private int lastWorldTick = -1;
+    
+    // ★ RTT / 서버 시계 (PING 협상 시 ping 메시지, 아니면 WebSocket ping 프레임으로 RTT만)
+    public static final float DEFAULT_PING_INTERVAL = 2f;  // 초
+    private static final long FRAME_PING_TIMEOUT_MS = 10000L;
+    private final ClockSync clock = new ClockSync();
+    private long pingIntervalMs = (long) (DEFAULT_PING_INTERVAL * 1000f);
+    private long lastPingAt;
+    private volatile long framePingAt;  // 답을 기다리는 ping 프레임 보낸 시각 (0이면 없음)
+    
+    // ★ 자동 재연결 (지터 섞인 지수 백오프) + 세션 재개
+    public static final long RECONNECT_BASE_MS = 200L;
+    public static final long RECONNECT_MAX_MS = 10000L;
+    private boolean autoReconnect = true;
+    private String url;
+    private boolean closedByUser;
+    private int reconnectAttempt;
+    private ScheduledExecutorService timer;  // 재연결 / 측정용, 처음 필요할 때 생성
+    private ScheduledFuture<?> pendingReconnect;
+    private String resumeToken;     // 입장 시 서버가 발급 (RESUME 협상 시)
+    private String sessionRoomId;
+    private String sessionPlayerId;
+    private boolean resumePending;  // resume 보냄 → resumed / error 대기
+    
+    // ★ 서버 후보 + 최근 측정 순위 (재연결이 FAILOVER_AFTER번 실패하면 다음 순위로)
+    private static final int FAILOVER_AFTER = 3;
+    private final List<String> endpoints = new ArrayList<>(Arrays.asList(DEFAULT_ENDPOINTS));
+    private List<String> ranked = new ArrayList<>(endpoints);
+    private final EndpointCache endpointCache = new EndpointCache();
+    private boolean probeConnect;  // connectBest 측정 중 → 끝나면 1순위로 연결
+    
+    // ★ 이동 전용 UDP 채널 (UDP 협상 + 서버가 포트를 주면 열림, 응답이 끊기면 WebSocket으로)
+    //   받은 이동은 따로 합침 (수신 링 생산자는 WS 스레드 하나)
+    //   ★ 도착 시점의 링 위치를 기록 → 그 전에 온 신뢰 이벤트를 다 적용한 뒤에 적용
+    private final UdpChannel udp = new UdpChannel(this::offerUdpMove);
+    private final MoveCoalescer udpMoves = new MoveCoalescer();
+    private MoveCoalescer.Batch heldUdp;  // 앞선 이벤트가 남아 다음 프레임으로 미룬 묶음 (렌더 스레드)
+    
+    // 렌더 스레드에서 콜백 (기본 인스턴스와 같은 방식)
+    public Net() {
+        this(null);
+    }
+    
+    // ★ executor에서 콜백 (렌더 루프 없는 봇용, 이벤트는 도착하는 대로 전부 처리)
+    //   executor는 작업을 하나씩 순서대로 실행해야 함 (예: Executors.newSingleThreadExecutor())
+    //   BATCH_OUT 협상 시 송신은 flushFrame()을 부를 때 나가므로 봇도 틱마다 호출할 것
+    public Net(Executor executor) {
+        this.executor = executor;
+        registerHandlers();
+    }
     
     public synchronized void resetLastResult() { 
         lastRoomId=null; 
@@ -58,157 +207,316 @@ public final class Net {
     public String getLastErrCode(){ return lastErrCode; }
     public String getLastErrMsg(){ return lastErrMsg; }
     
-    public synchronized void setListener(Listener l) { this.listener = l; }
+    public synchronized void setListener(Listener l) { listeners.setPrimary(l); }
+    
+    // ★ 화면 리스너와 별도로 계속 받는 리스너 (봇 / 통계)
+    public void addListener(Listener l) { listeners.add(l); }
+    public void removeListener(Listener l) { listeners.remove(l); }
+    
+    // ★ 압축 설정: threshold 바이트 미만 메시지는 압축 생략
+    public synchronized void setCompression(boolean enabled, int threshold) {
+        this.compression = enabled;
+        this.compressionThreshold = threshold;
+    }
+    
+    public CompressionStats getCompressionStats() { return compressionStats; }
 
+    // 마지막 주소 (없으면 첫 번째 후보)로 연결
+    // connectBest의 측정이 진행 중이면 그 결과로 연결되므로 따로 연결하지 않음 (측정 안 된 후보로 먼저 붙지 않게)
+    public void connect() throws Exception {
+        String target;
+        synchronized (this) {
+            if (probeConnect) return;
+            target = url != null ? url : ranked.get(0);
+        }
+        connect(target);
+    }
+    
+    public synchronized void setEndpoints(String... urls) {
+        if (urls.length == 0) return;
+        endpoints.clear();
+        endpoints.addAll(Arrays.asList(urls));
+        ranked = new ArrayList<>(endpoints);
+    }
+    
+    /**
+     * ★ 가장 가까운 후보로 연결 (바로 리턴)
+     * - 지난 실행의 측정 결과가 있으면 그 1순위로 즉시 연결 + 뒤에서 다시 측정해 저장만
+     * - 없으면 병렬 측정 후 가장 빠른 곳으로 (모두 실패하면 첫 번째 후보)
+     */
+    public void connectBest() {
+        List<String> candidates;
+        synchronized (this) { candidates = new ArrayList<>(endpoints); }
+        List<String> cached = endpointCache.load(candidates);
+        if (!cached.isEmpty()) {
+            synchronized (this) { ranked = mergeRank(cached, candidates); }
+            connectQuietly(cached.get(0));
+            if (candidates.size() > 1) timer().execute(() -> probe(candidates, false));
+            return;
+        }
+        if (candidates.size() == 1) {
+            connectQuietly(candidates.get(0));
+            return;
+        }
+        synchronized (this) { probeConnect = true; }
+        timer().execute(() -> probe(candidates, true));
+    }
+    
     public synchronized void connect(String wsUrl) throws Exception {
+        probeConnect = false;  // 주소를 직접 정함 → 진행 중인 측정은 순위만 갱신
         if (ws != null && ws.isOpen()) return;
-        ws = new WebSocketClient(new URI(wsUrl), new Draft_6455()) {
+        closedByUser = false;
+        reconnectAttempt = 0;
+        cancelReconnect();
+        open(wsUrl);
+    }
+    
+    // ★ 끊긴 뒤에도 같은 세션으로 다시 붙음 (기본 켜짐)
+    public synchronized void setAutoReconnect(boolean enabled) {
+        autoReconnect = enabled;
+        if (!enabled) cancelReconnect();
+    }
+    
+    private void open(String wsUrl) throws Exception {
+        url = wsUrl;
+        ready = false;
+        caps = 0;  // 새 연결마다 다시 협상
+        batch.drainTo(sendQueue);
+        boolean resuming = resumeToken != null;
+        // 재개하면 같은 방 → 슬롯 유지
+        // ★ 슬롯 표는 렌더 스레드 전용인데 open은 재연결 타이머 스레드에서도 불림 → 렌더 스레드에서 비움
+        //   (새 연결의 입장 응답보다 먼저 실행됨: 게시한 작업이 수신 처리보다 앞섬)
+        if (!resuming) post(slots::clear);
+        deltaCodec.reset();
+        lastWorldTick = -1;
+        clock.reset();
+        lastPingAt = 0L;
+        framePingAt = 0L;
+        Draft_6455 draft = compression
+                ? new Draft_6455(new DeflateExtension(compressionThreshold, compressionStats))
+                : new Draft_6455();
+        WebSocketClient old = ws;
+        ws = new WebSocketClient(new URI(wsUrl), draft) {
             @Override 
             public void onOpen(ServerHandshake h) {
-                Gdx.app.postRunnable(() -> {
-                    Gdx.app.log("WS", "Connected to server!");
-                    if (listener != null) listener.onOpen();
-                    
-                    // 대기 중이던 메시지 전송
-                    synchronized (Net.this) {
-                        while (!sendQueue.isEmpty()) {
-                            ws.send(gson.toJson(sendQueue.poll()));
-                        }
+                // ★ WS 스레드에서 바로: resume → 대기열 순서로 링에 넣은 뒤에야 송신 허용 (ready)
+                //   렌더 스레드 송신은 ready 전이면 대기열로 → 그 뒤에 나감
+                synchronized (Net.this) {
+                    if (this != ws) return;  // 이미 새 연결로 바뀜
+                    reconnectAttempt = 0;
+                    // ★ 세션 재개 요청이 맨 먼저 (서버가 방 / 슬롯을 되살린 뒤 나머지 처리)
+                    if (resumeToken != null) {
+                        resumePending = true;
+                        netWriter.offer(writer.resume(resumeToken, sessionRoomId, sessionPlayerId, Caps.offer()), false);
+                        Log.info("WS", "Resuming session in room {}", sessionRoomId);
+                    }
+                    // 끊기기 전에 링에 넣었지만 못 보낸 것 → 끊긴 뒤 대기열에 쌓인 것보다 먼저
+                    int returned = 0;
+                    if (!netWriter.awaitFlushed(UNSENT_WAIT_MS)) {
+                        Log.error("WS", "Writer still busy after {}ms", UNSENT_WAIT_MS);
+                    }
+                    NetWriter.Unsent u;
+                    while ((u = netWriter.pollUnsent()) != null) {
+                        String key = u.key();
+                        if (key != null && sendQueue.hasKey(key)) continue;  // 더 새 값이 대기 중
+                        netWriter.offerReliable(ByteBuffer.wrap(u.json), u.keyType, u.keyId);
+                        returned++;
+                    }
+                    // 대기 중이던 메시지 전송 (대체·만료된 것은 이미 빠짐)
+                    int sent = 0;
+                    String json;
+                    while ((json = sendQueue.poll()) != null) {
+                        netWriter.offerReliable(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)), null, null);
+                        sent++;
                     }
+                    if (sent > 0 || returned > 0 || sendQueue.getDropped() > 0) {
+                        Log.info("WS", "Flushed {} queued, {} unsent (superseded={}, dropped={})",
+                                sent, returned, sendQueue.getSuperseded(), sendQueue.getDropped());
+                    }
+                    ready = true;
+                }
+                post(() -> {
+                    Log.info("WS", "Connected to server!");
+                    listeners.onOpen();
                 });
             }
             
             @Override 
             public void onMessage(String msg) {
-                Gdx.app.log("WS", "Received: " + msg);
-                Gdx.app.postRunnable(() -> handleMessage(msg));
+                if (this != ws) return;  // 이전 연결의 늦은 메시지 (링 생산자는 하나만)
+                Log.debug("WS", "Received: {}", msg);  // ★ 매 메시지 → 기본 꺼짐
+                handleText(msg);
+            }
+            
+            // ★ 바이너리 프레임 (playerMoved)
+            @Override 
+            public void onMessage(ByteBuffer bytes) {
+                if (this != ws) return;
+                handleBinary(bytes);
+            }
+            
+            // ★ ping 프레임 응답 → RTT 표본
+            @Override
+            public void onWebsocketPong(WebSocket conn, Framedata f) {
+                super.onWebsocketPong(conn, f);
+                long sentAt = framePingAt;
+                if (sentAt == 0L) return;
+                framePingAt = 0L;
+                clock.onRtt(ClockSync.localMillis() - sentAt);
             }
             
             @Override 
             public void onClose(int code, String reason, boolean remote) {
-                Gdx.app.log("WS", "Disconnected: " + reason);
-                Gdx.app.postRunnable(() -> { 
-                    if (listener != null) listener.onClose(code, reason, remote); 
+                if (this != ws) return;  // 교체되며 닫힌 이전 연결 (새 연결 상태를 건드리지 않음)
+                Log.info("WS", "Disconnected: {}", reason);
+                if (compression) Log.info("WS", "Deflate: {}", compressionStats);
+                Log.info("WS", "Writer: {}", netWriter.report());
+                Log.info("WS", "Latency: {}", getLatencyStats());
+                caps = 0;
+                udp.stop();  // 재연결 / 재입장 응답이 새 토큰으로 다시 엶
+                scheduleReconnect();
+                post(() -> { 
+                    drainEvents(Integer.MAX_VALUE, Long.MAX_VALUE);  // 끊기기 전에 온 메시지 먼저
+                    Log.info("WS", "Handlers: {}", handlers.report());
+                    Log.info("WS", "Inbound: {}", getInboundStats());
+                    listeners.onClose(code, reason, remote); 
                 });
             }
             
             @Override 
             public void onError(Exception ex) {
-                Gdx.app.log("WS", "Error: " + ex.getMessage());
-                Gdx.app.postRunnable(() -> { 
-                    if (listener != null) listener.onError(ex); 
+                if (this != ws) return;
+                Log.info("WS", "Error: {}", ex.getMessage());
+                post(() -> { 
+                    listeners.onError(ex); 
                 });
             }
         };
+        netWriter.setSocket(ws);
+        netWriter.start();
+        if (old != null) old.close();  // 콜백은 위의 this != ws 검사로 무시됨
         ws.connect();
     }
 
     public synchronized boolean isOpen() { 
-        return ws != null && ws.isOpen(); 
+        return isLive(); 
+    }
+    
+    // 연결됨 + onOpen 처리 끝 (송신 경로는 전부 이걸로 판단)
+    private boolean isLive() {
+        return ready && ws != null && ws.isOpen();
     }
 
     public synchronized void close() {
+        closedByUser = true;  // 직접 닫은 건 재연결하지 않음
+        probeConnect = false;
+        cancelReconnect();
         if (ws != null) ws.close();
     }
+    
+    // ★ 서버가 해당 기능을 수락했는지
+    public boolean hasCap(int bit) {
+        return Caps.has(caps, bit);
+    }
 
     // ====== API (서버 문서 포맷에 맞춤) ======
     
-    // 방 생성 (★ playerId 추가)
-    public void sendCreateRoom(String code, String title, String password, String playerId) {
-        Map<String,Object> payload = new HashMap<>();
-        payload.put("code", code);
-        payload.put("title", title);
-        payload.put("password", password);
-        payload.put("playerId", playerId);  // ★ 생성자 ID
-
-        Map<String,Object> msg = new HashMap<>();
-        msg.put("type", "createRoom");
-        msg.put("payload", payload);
-        sendJson(msg);
+    // 방 생성 (★ playerId 추가, ★ 지원 기능 제안)
+    public synchronized void sendCreateRoom(String code, String title, String password, String playerId) {
+        startSession(code, playerId);
+        slots.clear();  // 새 방 → 슬롯 다시 배정
+        deltaCodec.reset();
+        lastWorldTick = -1;
+        sendText(writer.createRoom(code, title, password, playerId, Caps.offer()), true);
     }
 
-    // 방 입장
-    public void sendJoinRoom(String roomId, String playerId) {
-        Map<String,Object> payload = new HashMap<>();
-        payload.put("roomId", roomId);
-        payload.put("playerId", playerId);
-
-        Map<String,Object> msg = new HashMap<>();
-        msg.put("type", "join");
-        msg.put("payload", payload);
-        sendJson(msg);
+    // 방 입장 (★ 지원 기능 제안)
+    public synchronized void sendJoinRoom(String roomId, String playerId) {
+        startSession(roomId, playerId);
+        slots.clear();
+        deltaCodec.reset();
+        lastWorldTick = -1;
+        sendText(writer.join(roomId, playerId, Caps.offer()), true);
     }
     
     // Ready 상태 전송
-    public void sendReady(String playerId, boolean isReady) {
-        Map<String,Object> payload = new HashMap<>();
-        payload.put("playerId", playerId);
-        payload.put("isReady", isReady);
-
-        Map<String,Object> msg = new HashMap<>();
-        msg.put("type", "ready");
-        msg.put("payload", payload);
-        sendJson(msg);
+    public synchronized void sendReady(String playerId, boolean isReady) {
+        sendText(writer.ready(playerId, isReady), true, OfflineQueue.KEY_READY, playerId);
     }
     
     // 게임 시작
-    public void sendGameStart(String roomId) {
-        Map<String,Object> payload = new HashMap<>();
-        payload.put("roomId", roomId);
-
-        Map<String,Object> msg = new HashMap<>();
-        msg.put("type", "start");
-        msg.put("payload", payload);
-        sendJson(msg);
+    public synchronized void sendGameStart(String roomId) {
+        sendText(writer.gameStart(roomId), true);
     }
     
     // 플레이어 이동 (★★★ x, y 좌표 추가 ★★★)
-    public void sendPlayerMove(String playerId, float dx, float dy, float x, float y) {
-        Map<String,Object> payload = new HashMap<>();
-        payload.put("playerId", playerId);
-        payload.put("dx", dx);
-        payload.put("dy", dy);
-        payload.put("x", x);   // ★ 현재 위치 X
-        payload.put("y", y);   // ★ 현재 위치 Y
+    public synchronized void sendPlayerMove(String playerId, float dx, float dy, float x, float y) {
+        // ★ 슬롯이 배정됐으면 ID 문자열 대신 슬롯 번호
+        int slot = hasCap(Caps.SLOT_IDS) ? slots.slotOf(playerId) : SlotTable.NONE;
+        // ★ 바이너리 프레임에 안 들어가는 긴 ID는 JSON 경로로 (렌더 스레드에서 예외 금지)
+        boolean binary = slot != SlotTable.NONE || moveCodec.fitsId(playerId);
         
-        Map<String,Object> msg = new HashMap<>();
-        msg.put("type", "move");
-        msg.put("payload", payload);
-        sendJson(msg);
+        // ★ UDP 채널이 살아 있으면 그쪽으로 (데이터그램마다 완결 프레임, 잃어버린 델타 키프레임 걱정 없음)
+        if (binary && udp.isActive()) {
+            ByteBuffer frame = slot != SlotTable.NONE
+                    ? moveCodec.encodeSlot(moveBuf, MoveCodec.OP_MOVE_SLOT, slot, dx, dy, x, y)
+                    : moveCodec.encode(moveBuf, MoveCodec.OP_MOVE, playerId, dx, dy, x, y);
+            if (udp.sendMove(frame)) return;
+        }
+        
+        // ★ 서버가 바이너리를 수락했으면 고정 레이아웃 프레임으로 전송
+        if (binary && hasCap(Caps.BIN_MOVE) && isLive()) {
+            flushFrame();  // 먼저 모인 텍스트 메시지와 순서 유지
+            // ★ 델타 프레임: 바뀐 필드만 (영역이 정해진 뒤부터)
+            if (hasCap(Caps.DELTA_MOVE) && deltaCodec.hasArea()) {
+                byte[] id = slot != SlotTable.NONE ? null : moveCodec.idBytes(playerId);
+                netWriter.offer(deltaCodec.encode(moveBuf, DeltaMoveCodec.OP_MOVE_DELTA, slot, id, dx, dy, x, y), true);
+                return;
+            }
+            netWriter.offer(slot != SlotTable.NONE
+                    ? moveCodec.encodeSlot(moveBuf, MoveCodec.OP_MOVE_SLOT, slot, dx, dy, x, y)
+                    : moveCodec.encode(moveBuf, MoveCodec.OP_MOVE, playerId, dx, dy, x, y), true);
+            return;
+        }
+        // ★ 매 틱 호출 → 로그 생략
+        sendText(slot != SlotTable.NONE
+                ? writer.moveSlot(slot, dx, dy, x, y)
+                : writer.move(playerId, dx, dy, x, y), false, OfflineQueue.KEY_MOVE, playerId);
+    }
+    
+    // ★ 권위 이동 입력 (AUTH_MOVE 협상 시): 서버가 전부 다시 계산하므로 UDP / 건너뛰기 없이 WebSocket으로
+    public synchronized void sendMoveInput(String playerId, int seq, int steps, float dx, float dy, float x, float y) {
+        int slot = hasCap(Caps.SLOT_IDS) ? slots.slotOf(playerId) : SlotTable.NONE;
+        sendText(writer.moveInput(playerId, slot, seq, steps, dx, dy, x, y), false, OfflineQueue.KEY_MOVE, playerId);
+    }
+    
+    // ★ 이동 영역 설정 (화면 전환 시 호출, 델타 프레임 양자화 기준)
+    public synchronized void setMoveArea(float x, float y, float w, float h) {
+        deltaCodec.setArea(x, y, w, h);
+        if (hasCap(Caps.DELTA_MOVE)) sendMoveArea();
+    }
+    
+    private void sendMoveArea() {
+        if (!deltaCodec.hasArea()) return;
+        sendText(writer.moveArea(deltaCodec.areaX(), deltaCodec.areaY(), deltaCodec.areaW(), deltaCodec.areaH()), true,
+                OfflineQueue.KEY_MOVE_AREA, "");
     }
     
     // 나가기
-    public void sendLeave(String roomId, String playerId) {
-        Map<String,Object> payload = new HashMap<>();
-        payload.put("roomId", roomId);
-        payload.put("playerId", playerId);
-        
-        Map<String,Object> msg = new HashMap<>();
-        msg.put("type", "leave");
-        msg.put("payload", payload);
-        sendJson(msg);
+    public synchronized void sendLeave(String roomId, String playerId) {
+        startSession(null, null);  // 나갔으면 이어받을 세션 없음
+        udp.stop();
+        sendText(writer.leave(roomId, playerId), true);
     }
     
     // 얼리기
-    public void sendFreeze(String targetId) {
-        Map<String,Object> payload = new HashMap<>();
-        payload.put("targetId", targetId);
-        
-        Map<String,Object> msg = new HashMap<>();
-        msg.put("type", "freeze");
-        msg.put("payload", payload);
-        sendJson(msg);
+    public synchronized void sendFreeze(String targetId) {
+        sendText(writer.freeze(targetId), true);
     }
     
     // 녹이기
-    public void sendUnfreeze(String targetId) {
-        Map<String,Object> payload = new HashMap<>();
-        payload.put("targetId", targetId);
-        
-        Map<String,Object> msg = new HashMap<>();
-        msg.put("type", "unfreeze");
-        msg.put("payload", payload);
-        sendJson(msg);
+    public synchronized void sendUnfreeze(String targetId) {
+        sendText(writer.unfreeze(targetId), true);
     }
     
     // 스킬 사용
@@ -217,194 +525,567 @@ public final class Net {
     }
     
     // 스킬 사용 (targetId 포함)
-    public void sendSkillUse(String skillType, String targetId) {
-        Map<String,Object> payload = new HashMap<>();
-        payload.put("skillType", skillType);
-        if (targetId != null) {
-            payload.put("targetId", targetId);
+    public synchronized void sendSkillUse(String skillType, String targetId) {
+        sendText(writer.skillUse(skillType, targetId), true);
+    }
+    
+    // Ready
+    public synchronized void sendGameReady() {
+        sendText(writer.gameReady(), true);
+    }
+
+    // ★ 프레임 끝에서 호출 (Core.render): 이번 프레임에 모인 메시지를 batch 하나로 전송
+    public synchronized void flushFrame() {
+        maybePing();
+        if (batch.size() == 0) return;
+        if (isLive()) {
+            sendFrame(batch.finish(), null, null);
+            batch.clear();
+        } else {
+            batch.drainTo(sendQueue);  // 끊겼으면 재연결 후 개별 전송
         }
+    }
+
+    // ====== 재연결 / 세션 재개 ======
+    
+    // 새 방 입장 → 이전 세션 토큰 폐기
+    private void startSession(String roomId, String playerId) {
+        resumeToken = null;
+        resumePending = false;
+        sessionRoomId = roomId;
+        sessionPlayerId = playerId;
+    }
+    
+    // ★ WS 스레드 (onClose): 다음 시도 예약, 대기 = base·2^n을 상한까지, 그 절반 + 무작위 절반
+    private synchronized void scheduleReconnect() {
+        if (!autoReconnect || closedByUser || url == null) return;
+        if (pendingReconnect != null && !pendingReconnect.isDone()) return;
         
-        Map<String,Object> msg = new HashMap<>();
-        msg.put("type", "skillUse");
-        msg.put("payload", payload);
-        sendJson(msg);
+        long cap = Math.min(RECONNECT_MAX_MS, RECONNECT_BASE_MS << Math.min(reconnectAttempt, 16));
+        long delay = cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+        int attempt = ++reconnectAttempt;
+        
+        pendingReconnect = timer().schedule(this::reconnect, delay, TimeUnit.MILLISECONDS);
+        Log.info("WS", "Reconnecting in {}ms (attempt {})", delay, attempt);
+        post(() -> listeners.onReconnecting(attempt, delay));
     }
     
-    // Ready
-    public void sendGameReady() {
-        Map<String,Object> msg = new HashMap<>();
-        msg.put("type", "gameReady");
-        sendJson(msg);
+    private synchronized void reconnect() {
+        pendingReconnect = null;
+        if (closedByUser || (ws != null && ws.isOpen())) return;
+        // 같은 서버에 계속 실패 → 다음 순위 후보로
+        if (reconnectAttempt > FAILOVER_AFTER && ranked.size() > 1) {
+            int i = ranked.indexOf(url);
+            String next = ranked.get((i + 1) % ranked.size());
+            Log.info("WS", "Failing over to {}", next);
+            url = next;
+        }
+        try {
+            open(url);
+        } catch (Exception e) {
+            Log.error("WS", "Reconnect failed", e);
+            scheduleReconnect();
+        }
+    }
+    
+    private synchronized ScheduledExecutorService timer() {
+        if (timer == null) {
+            timer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "net-timer");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return timer;
+    }
+    
+    // ★ timer 스레드: 병렬 측정 → 순위 갱신 + 저장 (connect면 1순위로 연결까지)
+    private void probe(List<String> candidates, boolean connect) {
+        List<EndpointProber.Result> results = EndpointProber.probe(candidates, EndpointProber.DEFAULT_TIMEOUT_MS);
+        Log.info("WS", "Probed endpoints: {}", results);
+        List<String> order = new ArrayList<>();
+        for (EndpointProber.Result res : results) order.add(res.url);
+        boolean connectNow;
+        synchronized (this) {
+            ranked = mergeRank(order, candidates);
+            connectNow = connect && probeConnect;  // 그 사이 직접 연결 / 닫기를 했으면 연결 안 함
+        }
+        post(() -> endpointCache.store(results));
+        if (connectNow) connectQuietly(order.isEmpty() ? candidates.get(0) : order.get(0));
+    }
+    
+    // 측정된 순서 먼저, 응답 없던 후보는 뒤에 (페일오버 대상으로는 남김)
+    private static List<String> mergeRank(List<String> order, List<String> candidates) {
+        List<String> out = new ArrayList<>(order);
+        for (String c : candidates) {
+            if (!out.contains(c)) out.add(c);
+        }
+        return out;
+    }
+    
+    private void connectQuietly(String target) {
+        try {
+            connect(target);
+        } catch (Exception e) {
+            Log.error("NET", "connect failed", e);
+        }
+    }
+    
+    private void cancelReconnect() {
+        if (pendingReconnect != null) pendingReconnect.cancel(false);
+        pendingReconnect = null;
+    }
+    
+    // ====== 지연 / 서버 시각 ======
+    
+    public synchronized void setPingInterval(float seconds) {
+        pingIntervalMs = (long) (seconds * 1000f);
+    }
+    
+    // 평활 RTT (ms, 표본 없으면 0)
+    public float getRttMillis() { return clock.getRtt(); }
+    public float getRttVarMillis() { return clock.getRttVar(); }
+    public boolean hasRtt() { return clock.hasRtt(); }
+    
+    // 서버 시계 - 로컬 시계 (ms, PING 협상 후 pong을 받아야 생김)
+    public double getClockOffsetMillis() { return clock.getOffset(); }
+    public boolean hasClockOffset() { return clock.hasOffset(); }
+    
+    // ★ 서버 기준 현재 시각 (epoch ms, 시계 차이를 모르면 로컬 시각)
+    public long serverTimeNow() { return clock.serverTimeNow(); }
+    
+    public String getLatencyStats() {
+        return String.format("rtt=%.1fms var=%.1fms offset=%s samples=%d", clock.getRtt(), clock.getRttVar(),
+                clock.hasOffset() ? String.format("%.1fms", clock.getOffset()) : "n/a", clock.getSamples());
+    }
+    
+    // ★ 주기적 ping (flushFrame에서 호출 → 별도 타이머 스레드 없음)
+    private void maybePing() {
+        if (pingIntervalMs <= 0 || !isLive()) return;
+        long now = ClockSync.localMillis();
+        if (now - lastPingAt < pingIntervalMs) return;
+        lastPingAt = now;
+        if (udp.isOpen()) udp.sendHello();  // UDP 주소 유지 + 살아있음 확인
+        
+        if (hasCap(Caps.PING)) {
+            netWriter.offer(writer.ping(now), false);  // 묶음과 무관하게 바로 (지연 측정용)
+            return;
+        }
+        // 서버가 ping 메시지를 모르면 WebSocket ping 프레임 (한 번에 하나, 답이 없으면 다시)
+        long pending = framePingAt;
+        if (pending != 0L && now - pending < FRAME_PING_TIMEOUT_MS) return;
+        framePingAt = now;
+        ws.sendPing();
     }
 
     // ====== 내부 함수 ======
-    private synchronized void sendJson(Object obj) {
-        if (ws != null && ws.isOpen()) {
-            String json = gson.toJson(obj);
-            Gdx.app.log("WS", "Sent: " + json);
-            ws.send(json);
+    
+    // ★ 작성된 JSON 버퍼를 송신 링에 복사 (offer가 복사하므로 버퍼를 바로 다시 써도 안전)
+    private void sendText(ByteBuffer json, boolean logIt) {
+        sendText(json, logIt, null, null);
+    }
+    
+    // keyType + keyId: 오프라인일 때 같은 키의 이전 메시지를 대체 (예: 플레이어별 최신 이동)
+    private void sendText(ByteBuffer json, boolean logIt, String keyType, String keyId) {
+        if (isLive()) {
+            if (logIt && Log.isEnabled("WS", Log.INFO)) {
+                Log.info("WS", "Sent: {}", StandardCharsets.UTF_8.decode(json.duplicate()));
+            }
+            if (hasCap(Caps.BATCH_OUT)) {
+                batch.add(json);  // 프레임 끝까지 모아둠
+            } else {
+                sendFrame(json, keyType, keyId);
+            }
         } else {
-            sendQueue.add(obj); // 연결될 때까지 대기
+            // 연결될 때까지 대기 (버퍼는 재사용되므로 문자열로 복사)
+            String key = keyType != null ? keyType + keyId : null;
+            sendQueue.add(key, StandardCharsets.UTF_8.decode(json).toString());
         }
     }
-
-    private void handleMessage(String msg) {
+    
+    // 끊기면 송신 스레드가 돌려줌 → 재연결 때 다시 (keyType + keyId로 더 새 값이 있는지 판단)
+    private void sendFrame(ByteBuffer json, String keyType, String keyId) {
+        netWriter.offerReliable(json, keyType, keyId);
+    }
+    
+    // ★ 바이너리 수신 (WebSocket 스레드에서 해석 → 값만 렌더 스레드로)
+    private void handleBinary(ByteBuffer bytes) {
+        MoveCodec.Move m = wsMove;
+        byte op = bytes.remaining() > 0 ? bytes.get(bytes.position()) : 0;
+        if (op == DeltaMoveCodec.OP_PLAYER_MOVED_DELTA || op == DeltaMoveCodec.OP_MOVE_DELTA) {
+            if (!deltaCodec.decode(bytes, m)) return;  // 키프레임 대기 중
+        } else if (!MoveCodec.decode(bytes, m)) {
+            Log.error("WS", "Unknown binary frame ({} bytes)", bytes.limit());
+            return;
+        }
+        offerMove(m);
+    }
+    
+    // ★ 텍스트 수신 (WebSocket 스레드에서 해석, batch면 안의 이벤트마다 acceptEvent)
+    private void handleText(String msg) {
         try {
-            JsonObject jo = JsonParser.parseString(msg).getAsJsonObject();
-            
-            String type = jo.has("type") ? jo.get("type").getAsString() : "";
-            
-            switch (type) {
-                case "roomCreated": {
-                    if (jo.has("data")) {
-                        JsonObject data = jo.getAsJsonObject("data");
-                        String code = data.has("code") ? data.get("code").getAsString() : "";
-                        String name = data.has("name") ? data.get("name").getAsString() : "";
-                        
-                        lastRoomId = code;
-                        lastErrCode = null;
-                        lastErrMsg = null;
-                        
-                        Gdx.app.log("WS", "Room created: " + code);
-                        if (listener != null) listener.onCreateRoomOk(code);
-                    }
-                    break;
-                }
-                
-                case "playerJoined": {
-                    String roomId = jo.has("roomId") ? jo.get("roomId").getAsString() : "";
-                    
-                    if (jo.has("snapshot")) {
-                        JsonObject snapshot = jo.getAsJsonObject("snapshot");
-                        
-                        // ★ players 배열 파싱 (객체 배열: {id, x, y})
-                        if (snapshot.has("players")) {
-                            JsonArray playersArray = snapshot.getAsJsonArray("players");
-                            for (int i = 0; i < playersArray.size(); i++) {
-                                JsonElement elem = playersArray.get(i);
-                                
-                                // 객체인 경우 (서버에서 {id, x, y} 형태로 전송)
-                                if (elem.isJsonObject()) {
-                                    JsonObject playerObj = elem.getAsJsonObject();
-                                    String playerId = playerObj.has("id") ? playerObj.get("id").getAsString() : "";
-                                    float x = playerObj.has("x") ? playerObj.get("x").getAsFloat() : 0f;
-                                    float y = playerObj.has("y") ? playerObj.get("y").getAsFloat() : 0f;
-                                    if (listener != null) listener.onPlayerJoined(playerId, x, y);
-                                } 
-                                // 문자열인 경우 (이전 버전 호환)
-                                else if (elem.isJsonPrimitive()) {
-                                    String playerId = elem.getAsString();
-                                    if (listener != null) listener.onPlayerJoined(playerId, 0f, 0f);
-                                }
-                            }
-                        }
-                        
-                        // ★ ready_status 파싱 추가
-                        if (snapshot.has("ready_status")) {
-                            JsonObject readyObj = snapshot.getAsJsonObject("ready_status");
-                            for (String pid : readyObj.keySet()) {
-                                boolean isReady = readyObj.get(pid).getAsBoolean();
-                                if (listener != null) listener.onPlayerReady(pid, isReady);
-                            }
-                        }
-                    }
-                    
-                    Gdx.app.log("WS", "Player joined room: " + roomId);
-                    
-                    if (listener != null) listener.onJoinOk(roomId);
-                    break;
-                }
-                
-                case "gameStarted": {
-                    if (jo.has("snapshot")) {
-                        JsonObject snapshot = jo.getAsJsonObject("snapshot");
-                        String roleJson = snapshot.toString();
-                        Gdx.app.log("WS", "Game started!");
-                        if (listener != null) listener.onGameStart(roleJson);
-                    }
-                    break;
-                }
-                
-                // ★★★ 수정: dx, dy 파싱 추가 ★★★
-                case "playerMoved": {
-                    String playerId = jo.has("playerId") ? jo.get("playerId").getAsString() : "";
-                    float dx = jo.has("dx") ? jo.get("dx").getAsFloat() : 0f;
-                    float dy = jo.has("dy") ? jo.get("dy").getAsFloat() : 0f;
-                    float x = jo.has("x") ? jo.get("x").getAsFloat() : 0f;
-                    float y = jo.has("y") ? jo.get("y").getAsFloat() : 0f;
-                    
-                    Gdx.app.log("WS", "Player moved: " + playerId + " dx=" + dx + " dy=" + dy + " pos=(" + x + "," + y + ")");
-                    
-                    if (listener != null) listener.onPlayerMove(playerId, dx, dy, x, y);
-                    break;
-                }
-                
-                case "playerLeft": {
-                    String playerId = jo.has("playerId") ? jo.get("playerId").getAsString() : "";
-                    Gdx.app.log("WS", "Player left: " + playerId);
-                    if (listener != null) listener.onPlayerLeft(playerId);
-                    break;
-                }
-                
-                case "playerReady": {
-                    String playerId = jo.has("playerId") ? jo.get("playerId").getAsString() : "";
-                    boolean isReady = jo.has("isReady") ? jo.get("isReady").getAsBoolean() : false;
-                    
-                    Gdx.app.log("WS", "Player ready: " + playerId + " = " + isReady);
-                    if (listener != null) listener.onPlayerReady(playerId, isReady);
-                    break;
-                }
-                
-                case "freeze": {
-                    String targetId = jo.has("targetId") ? jo.get("targetId").getAsString() : "";
-                    String attackerId = jo.has("attackerId") ? jo.get("attackerId").getAsString() : "";
-                    if (listener != null) listener.onPlayerFreeze(targetId, attackerId);
-                    break;
-                }
-                
-                case "unfreeze": {
-                    String targetId = jo.has("targetId") ? jo.get("targetId").getAsString() : "";
-                    String unfreezeId = jo.has("unfreezeId") ? jo.get("unfreezeId").getAsString() : "";
-                    if (listener != null) listener.onPlayerUnfreeze(targetId, unfreezeId);
-                    break;
-                }
-                
-                case "skillUse": {
-                    String playerId = jo.has("playerId") ? jo.get("playerId").getAsString() : "";
-                    String skillType = jo.has("skillType") ? jo.get("skillType").getAsString() : "";
-                    String targetId = jo.has("targetId") && !jo.get("targetId").isJsonNull() 
-                        ? jo.get("targetId").getAsString() : null;  // ★ targetId 파싱
-                    if (listener != null) listener.onSkillUsed(playerId, skillType, targetId);
-                    break;
-                }
-                
-                case "fogActivated": {
-                    String playerId = jo.has("playerId") ? jo.get("playerId").getAsString() : "";
-                    if (listener != null) listener.onFogActivated(playerId);
-                    break;
-                }
-                
-                case "error": {
-                    String code = "UNKNOWN";
-                    String message = "";
-                    
-                    if (jo.has("payload")) {
-                        JsonObject payload = jo.getAsJsonObject("payload");
-                        code = payload.has("code") ? payload.get("code").getAsString() : "UNKNOWN";
-                        message = payload.has("message") ? payload.get("message").getAsString() : "";
-                    }
-                    
-                    lastRoomId = null;
-                    lastErrCode = code;
-                    lastErrMsg = message;
-                    
-                    Gdx.app.error("WS", "Server error: " + code + " - " + message);
-                    if (listener != null) listener.onServerError(code, message);
-                    break;
+            wsDecoder.decode(msg, wsSink);
+        } catch (Exception e) {
+            parseErrors.incrementAndGet();
+            Log.error("WS", "Failed to parse message", e);
+        }
+    }
+    
+    // ★ WS 스레드: 검증 → 이동은 합치기, 나머지는 링으로 (앞서 모인 이동을 봉인해서 순서 유지)
+    private void acceptEvent(NetEvent e) {
+        String problem = EventValidator.check(e);
+        if (problem != null) {
+            rejected.incrementAndGet();
+            Log.error("WS", "Dropped {}: {}", e.type, problem);
+            return;
+        }
+        if (e.type == NetEvent.Type.PONG) {
+            // 받은 시각을 바로 기록 (렌더 스레드까지 가면 프레임 대기만큼 RTT가 부풀려짐)
+            clock.onPong(e.t0, e.t1, e.t2 > 0 ? e.t2 : e.t1, ClockSync.localMillis());
+            return;
+        }
+        if (e.type == NetEvent.Type.PLAYER_MOVED) {
+            wsMove.slot = e.slot;
+            wsMove.playerId = e.playerId;
+            wsMove.dx = e.dx;
+            wsMove.dy = e.dy;
+            wsMove.x = e.x;
+            wsMove.y = e.y;
+            offerMove(wsMove);
+            return;
+        }
+        InboundRing.Slot slot = inbound.claim();
+        slot.kind = InboundRing.KIND_EVENT;
+        slot.before = coalescer.seal();
+        slot.event.copyFrom(e);  // 디코더 이벤트는 재사용되므로 슬롯에 복사
+        inbound.publish();
+        scheduleDrain();
+    }
+    
+    // ★ net-udp 스레드: 검증 후 UDP 전용 합치기에 (executor 모드면 drain 예약)
+    private void offerUdpMove(MoveCodec.Move m) {
+        String problem = EventValidator.checkMove(m);
+        if (problem != null) {
+            rejected.incrementAndGet();
+            Log.error("UDP", "Dropped move: {}", problem);
+            return;
+        }
+        long mark = inbound.published();
+        if (udpMoves.offer(m.slot, m.playerId, m.dx, m.dy, m.x, m.y, mark) >= 0) scheduleDrain();
+    }
+    
+    private void offerMove(MoveCodec.Move m) {
+        int gen = coalescer.offer(m.slot, m.playerId, m.dx, m.dy, m.x, m.y);
+        if (gen >= 0) {
+            InboundRing.Slot slot = inbound.claim();
+            slot.kind = InboundRing.KIND_MOVES;
+            slot.gen = gen;
+            inbound.publish();
+            scheduleDrain();
+        }
+    }
+    
+    // ★ 렌더 스레드: 수신 이벤트 처리 (maxEvents개 또는 budgetNanos까지, 남으면 다음 프레임)
+    //   최소 1개는 처리 → 큰 메시지 하나가 예산을 넘어도 밀리지 않음
+    public int drainEvents(int maxEvents, long budgetNanos) {
+        lastDrainFrame = frameId();
+        long start = System.nanoTime();
+        if (heldUdp == null) heldUdp = udpMoves.seal();  // 미룬 게 있으면 새 이동은 계속 합쳐둠
+        int n = 0;
+        InboundRing.Slot slot;
+        while (n < maxEvents && (slot = inbound.peek()) != null) {
+            applyHeldUdp();
+            try {
+                applyInbound(slot);
+            } catch (Exception e) {
+                Log.error("WS", "Failed to apply inbound event", e);
+            } finally {
+                inbound.release();
+            }
+            n++;
+            if (System.nanoTime() - start >= budgetNanos) break;
+        }
+        applyHeldUdp();
+        if (inbound.size() > 0) spilledFrames++;
+        return n;
+    }
+    
+    // UDP 이동보다 먼저 도착한 링 슬롯을 다 처리했으면 적용
+    private void applyHeldUdp() {
+        if (heldUdp == null || inbound.consumed() < heldUdp.mark()) return;
+        MoveCoalescer.Batch b = heldUdp;
+        heldUdp = null;
+        applyMoves(udpMoves, b);
+    }
+    
+    public int drainEvents() {
+        return drainEvents(drainMaxEvents, drainBudgetNanos);
+    }
+    
+    // 이번 프레임에 화면이 직접 drainEvents()를 안 했으면 처리 (Core.render에서 호출)
+    public void drainEventsIfIdle() {
+        if (executor == null && lastDrainFrame != frameId()) drainEvents();
+    }
+    
+    // ★ 프레임당 수신 처리 한도
+    public void setDrainBudget(int maxEvents, float budgetMs) {
+        this.drainMaxEvents = Math.max(1, maxEvents);
+        this.drainBudgetNanos = (long) (budgetMs * 1000000L);
+    }
+    
+    // 수신 링 요약 (남은 수 / 최대 깊이 / 예산 초과 프레임)
+    public String getInboundStats() {
+        return "pending=" + inbound.size() + " maxDepth=" + inbound.getMaxDepth()
+                + " spilledFrames=" + spilledFrames + " fullWaits=" + inbound.getFullWaits()
+                + " rejected=" + rejected.get() + " parseErrors=" + parseErrors.get();
+    }
+    
+    private static long frameId() {
+        return Gdx.graphics != null ? Gdx.graphics.getFrameId() : -1;
+    }
+    
+    // ★ 콜백 스레드로 넘기기 (기본: 렌더 스레드)
+    private void post(Runnable r) {
+        if (executor != null) executor.execute(r); else Gdx.app.postRunnable(r);
+    }
+    
+    // executor 모드: 링에 넣을 때 drain 작업을 한 번만 예약
+    private void scheduleDrain() {
+        if (executor != null && drainScheduled.compareAndSet(false, true)) executor.execute(drainTask);
+    }
+    
+    private void drainScheduled() {
+        do {
+            drainEvents(Integer.MAX_VALUE, Long.MAX_VALUE);
+            drainScheduled.set(false);
+            // 푸는 사이 들어온 이벤트는 예약이 막혔으므로 직접 이어서 처리
+        } while ((inbound.size() > 0 || !udpMoves.isEmpty()) && drainScheduled.compareAndSet(false, true));
+    }
+    
+    private void applyInbound(InboundRing.Slot slot) {
+        switch (slot.kind) {
+            case InboundRing.KIND_MOVES:
+                applyMoves(coalescer, coalescer.drain(slot.gen));
+                break;
+            default:
+                applyMoves(coalescer, slot.before);
+                dispatch(slot.event);
+                break;
+        }
+    }
+    
+    // ★ 렌더 스레드: 합쳐진 이동 적용 (플레이어당 1회) → 묶음은 받은 곳에 반환
+    private void applyMoves(MoveCoalescer from, MoveCoalescer.Batch moves) {
+        if (moves == null) return;
+        try {
+            for (int i = 0; i < moves.size(); i++) {
+                MoveCodec.Move m = moves.get(i);
+                String playerId = resolveId(m.slot, m.playerId);
+                if (playerId == null) continue;  // 아직 모르는 슬롯
+                listeners.onPlayerMoveSlot(m.slot, playerId, m.dx, m.dy, m.x, m.y);
+            }
+        } finally {
+            from.release(moves);
+        }
+    }
+    
+    private void dispatch(NetEvent e) {
+        try {
+            // ★ 기능 협상 응답 (roomCreated / playerJoined)
+            if (e.hasCaps) {
+                caps = e.caps;
+                Log.info("WS", "Negotiated caps: {}", Integer.toBinaryString(e.caps));
+                if (hasCap(Caps.DELTA_MOVE)) {
+                    synchronized (this) { sendMoveArea(); }
                 }
             }
-        } catch (Exception e) {
-            Gdx.app.error("WS", "Failed to parse message", e);
+            
+            handlers.dispatch(e);
+        } catch (Exception ex) {
+            Log.error("WS", "Failed to handle {}", e.type, ex);
+        }
+    }
+    
+    // ====== 메시지 처리기 (타입별 등록) ======
+    
+    private void registerHandlers() {
+        handlers.register(NetEvent.Type.ROOM_CREATED, this::onRoomCreated);
+        handlers.register(NetEvent.Type.PLAYER_JOINED, this::onPlayerJoined);
+        handlers.register(NetEvent.Type.GAME_STARTED, e -> onGameStarted(e.gameStart));
+        // PLAYER_MOVED는 WS 스레드에서 합쳐져 applyMoves로 바로 적용 (처리기 없음)
+        handlers.register(NetEvent.Type.PLAYER_LEFT, this::onPlayerLeft);
+        handlers.register(NetEvent.Type.PLAYER_READY, this::onPlayerReady);
+        handlers.register(NetEvent.Type.FREEZE, e -> {
+            listeners.onPlayerFreeze(orEmpty(e.targetId), orEmpty(e.attackerId));
+        });
+        handlers.register(NetEvent.Type.UNFREEZE, e -> {
+            listeners.onPlayerUnfreeze(orEmpty(e.targetId), orEmpty(e.unfreezeId));
+        });
+        handlers.register(NetEvent.Type.SKILL_USE, e -> {
+            // ★ targetId는 null 허용
+            listeners.onSkillUsed(orEmpty(e.playerId), orEmpty(e.skillType), e.targetId);
+        });
+        handlers.register(NetEvent.Type.FOG_ACTIVATED, e -> {
+            listeners.onFogActivated(orEmpty(e.playerId));
+        });
+        handlers.register(NetEvent.Type.WORLD_STATE, this::onWorldState);
+        handlers.register(NetEvent.Type.RESUMED, this::onResumed);
+        handlers.register(NetEvent.Type.MOVE_ACK, e -> listeners.onMoveAck(e.seq, e.x, e.y));
+        handlers.register(NetEvent.Type.ERROR, this::onErrorMessage);
+    }
+    
+    // 처리기별 호출 횟수 / 시간 요약
+    public String getHandlerStats() {
+        return handlers.report();
+    }
+    
+    // UDP 이동 채널 요약 (보냄 / 받음 / 늦어서 버림)
+    public String getUdpStats() {
+        return udp.report() + " active=" + udp.isActive();
+    }
+    
+    // 송신 스레드 요약 (큐 깊이 / 대기 시간)
+    public String getWriterStats() {
+        return netWriter.report();
+    }
+
+    // ★ 송신 링에 남은 프레임 수 (MoveSendPolicy 혼잡 판단)
+    public int getOutboundDepth() {
+        return (int) netWriter.depth();
+    }
+    
+    private void onRoomCreated(NetEvent e) {
+        if (e.code == null && e.name == null) return;
+        String code = e.code != null ? e.code : "";
+        keepSession(code, e.resumeToken);
+        startUdp(e);
+        
+        lastRoomId = code;
+        lastErrCode = null;
+        lastErrMsg = null;
+        
+        Log.info("WS", "Room created: {}", code);
+        listeners.onCreateRoomOk(code);
+    }
+    
+    private void onPlayerJoined(NetEvent e) {
+        String roomId = e.roomId != null ? e.roomId : "";
+        keepSession(e.roomId, e.resumeToken);
+        startUdp(e);
+        
+        // ★ players 배열 ({id, slot, x, y} 또는 문자열)
+        for (int i = 0; i < e.joinedCount; i++) {
+            slots.bind(e.joinedSlots[i], e.joinedIds[i]);
+            listeners.onPlayerJoined(e.joinedIds[i], e.joinedX[i], e.joinedY[i]);
+        }
+        
+        // ★ ready_status
+        for (int i = 0; i < e.readyCount; i++) {
+            listeners.onPlayerReady(e.readyIds[i], e.readyValues[i]);
+        }
+        
+        Log.info("WS", "Player joined room: {}", roomId);
+        
+        listeners.onJoinOk(roomId);
+    }
+    
+    private void onGameStarted(GameStart start) {
+        lastWorldTick = -1;  // 게임마다 틱 새로 시작
+        if (start == null) return;
+        Log.info("WS", "Game started! roles={} spawns={} duration={}",
+                start.roles.size(), start.spawns.size(), start.duration);
+        listeners.onGameStart(start);
+    }
+    
+    private void onPlayerLeft(NetEvent e) {
+        String playerId = orEmpty(resolveId(e));
+        if (SlotTable.isValid(e.slot)) slots.unbind(e.slot); else slots.unbind(playerId);
+        Log.info("WS", "Player left: {}", playerId);
+        listeners.onPlayerLeft(playerId);
+    }
+    
+    private void onPlayerReady(NetEvent e) {
+        String playerId = e.playerId != null ? e.playerId : "";
+        Log.info("WS", "Player ready: {} = {}", playerId, e.isReady);
+        listeners.onPlayerReady(playerId, e.isReady);
+    }
+    
+    private void onWorldState(NetEvent e) {
+        WorldSnapshot w = e.world;
+        if (w.tick <= lastWorldTick) return;  // 순서 뒤바뀐 스냅샷
+        lastWorldTick = w.tick;
+        
+        // 슬롯만 온 항목은 ID로 변환
+        for (int i = 0; i < w.count; i++) {
+            if (w.ids[i] == null) w.ids[i] = slots.idOf(w.slots[i]);
         }
+        listeners.onWorldSnapshot(w);
+    }
+    
+    // ★ 세션 재개 완료: 서버가 보낸 현재 상태로 덮어씀 (다시 입장할 필요 없음)
+    private void onResumed(NetEvent e) {
+        synchronized (this) { resumePending = false; }
+        lastWorldTick = -1;
+        Log.info("WS", "Session resumed (tick {}, {} players)", e.world.tick, e.world.count);
+        onWorldState(e);
+        startUdp(e);
+        listeners.onResumed();
+    }
+    
+    // 서버가 준 재개 토큰 보관 (RESUME 협상 안 됐으면 안 옴)
+    private synchronized void keepSession(String roomId, String token) {
+        if (token == null) return;
+        resumeToken = token;
+        if (roomId != null && !roomId.isEmpty()) sessionRoomId = roomId;
+    }
+    
+    // ★ 서버가 UDP 포트 + 토큰을 주면 이동 채널 열기 (호스트는 WebSocket 주소와 같음)
+    private void startUdp(NetEvent e) {
+        if (!hasCap(Caps.UDP) || e.udpPort <= 0 || e.udpToken == null) return;
+        String host;
+        synchronized (this) { host = url != null ? URI.create(url).getHost() : null; }
+        if (host == null) return;
+        try {
+            udp.start(host, e.udpPort, e.udpToken);
+        } catch (IOException ex) {
+            Log.error("UDP", "Failed to open channel", ex);  // 이동은 계속 WebSocket으로
+        }
+    }
+    
+    private void onErrorMessage(NetEvent e) {
+        String code = e.code != null ? e.code : "UNKNOWN";
+        String message = orEmpty(e.message);
+        
+        // resume 거절 (만료 등) → 토큰 버리고 화면이 다시 입장하게 둠
+        synchronized (this) {
+            if (resumePending) {
+                Log.info("WS", "Resume rejected: {}", code);
+                startSession(null, null);
+                slots.clear();
+            }
+        }
+        
+        lastRoomId = null;
+        lastErrCode = code;
+        lastErrMsg = message;
+        
+        Log.error("WS", "Server error: {} - {}", code, message);
+        listeners.onServerError(code, message);
+    }
+    
+    // ★ playerId가 없으면 슬롯으로 찾고, 둘 다 있으면 매핑 갱신
+    private String resolveId(NetEvent e) {
+        return resolveId(e.slot, e.playerId);
+    }
+    
+    private String resolveId(int slot, String playerId) {
+        if (!SlotTable.isValid(slot)) return playerId != null ? playerId : "";
+        if (playerId == null) return slots.idOf(slot);
+        if (!playerId.equals(slots.idOf(slot))) slots.bind(slot, playerId);
+        return playerId;
+    }
+    
+    private static String orEmpty(String s) {
+        return s != null ? s : "";
     }
 }
@@ -0,0 +1,158 @@
+package io.github.freeze.net;
+
+import java.util.Arrays;
+
+/**
+ * 서버 수신 메시지 1개를 담는 재사용 이벤트 객체
+ * - MessageDecoder가 JsonObject 없이 필드를 직접 채움
+ * - 렌더 스레드로는 수신 링 슬롯의 이벤트에 복사해서 넘김 (copyFrom)
+ * - type에 따라 쓰이는 필드만 의미 있음
+ */
+public final class NetEvent {
+    public enum Type {
+        UNKNOWN,
+        ROOM_CREATED,    // data.code, data.name
+        PLAYER_JOINED,   // roomId, snapshot.players, snapshot.ready_status
+        GAME_STARTED,    // gameStart
+        PLAYER_MOVED,    // playerId 또는 slot, dx, dy, x, y
+        PLAYER_LEFT,     // playerId 또는 slot
+        PLAYER_READY,    // playerId, isReady
+        FREEZE,          // targetId, attackerId
+        UNFREEZE,        // targetId, unfreezeId
+        SKILL_USE,       // playerId, skillType, targetId
+        FOG_ACTIVATED,   // playerId
+        WORLD_STATE,     // world (tick + 전체 플레이어)
+        PONG,            // t0 (보낸 시각 그대로), t1 서버 수신, t2 서버 송신
+        RESUMED,         // 세션 재개 (caps + world: 현재 상태 스냅샷)
+        MOVE_ACK,        // seq (서버가 마지막으로 처리한 내 입력), x, y (그 시점 서버 기준 내 위치)
+        ERROR            // payload.code, payload.message
+    }
+
+    public Type type;
+
+    // 공통 필드
+    public String playerId, targetId, attackerId, unfreezeId, skillType, roomId;
+    public String code, name, message;
+    public String resumeToken;  // ★ roomCreated / playerJoined에 붙어 오는 세션 재개 토큰
+    public String udpToken;     // ★ UDP 협상 시 이동 채널 포트 + 토큰 (같은 위치에 옴)
+    public int udpPort;
+    public float dx, dy, x, y;
+    public boolean isReady;
+    
+    // ★ 슬롯 번호 (SLOT_IDS 협상 시, 없으면 SlotTable.NONE)
+    public int slot = SlotTable.NONE;
+
+    // 기능 협상 ("caps" 배열이 있었을 때만 hasCaps)
+    public boolean hasCaps;
+    public int caps;
+
+    // ★ playerJoined 스냅샷 (players 배열)
+    public int joinedCount;
+    public String[] joinedIds = new String[8];
+    public float[] joinedX = new float[8];
+    public float[] joinedY = new float[8];
+    public int[] joinedSlots = new int[8];
+
+    // ★ playerJoined 스냅샷 (ready_status 객체)
+    public int readyCount;
+    public String[] readyIds = new String[8];
+    public boolean[] readyValues = new boolean[8];
+
+    // ★ worldState (tick, players)
+    public final WorldSnapshot world = new WorldSnapshot();
+
+    // ★ gameStarted 스냅샷 (해석된 결과, 메시지마다 새 객체)
+    public GameStart gameStart;
+
+    // ★ pong 시각 (밀리초)
+    public long t0, t1, t2;
+
+    // ★ moveAck 입력 번호
+    public int seq;
+
+    public void reset() {
+        type = Type.UNKNOWN;
+        playerId = targetId = attackerId = unfreezeId = skillType = roomId = null;
+        code = name = message = null;
+        resumeToken = null;
+        udpToken = null;
+        udpPort = 0;
+        dx = dy = x = y = 0f;
+        isReady = false;
+        slot = SlotTable.NONE;
+        hasCaps = false;
+        caps = 0;
+        Arrays.fill(joinedIds, 0, joinedCount, null);
+        Arrays.fill(readyIds, 0, readyCount, null);
+        joinedCount = 0;
+        readyCount = 0;
+        gameStart = null;
+        t0 = t1 = t2 = 0L;
+        seq = 0;
+        world.clear();
+    }
+
+    // ★ 다른 스레드로 넘길 때 복사 (디코더의 이벤트 객체는 재사용되므로)
+    void copyFrom(NetEvent src) {
+        reset();
+        type = src.type;
+        playerId = src.playerId;
+        targetId = src.targetId;
+        attackerId = src.attackerId;
+        unfreezeId = src.unfreezeId;
+        skillType = src.skillType;
+        roomId = src.roomId;
+        code = src.code;
+        name = src.name;
+        message = src.message;
+        resumeToken = src.resumeToken;
+        udpToken = src.udpToken;
+        udpPort = src.udpPort;
+        dx = src.dx;
+        dy = src.dy;
+        x = src.x;
+        y = src.y;
+        isReady = src.isReady;
+        slot = src.slot;
+        hasCaps = src.hasCaps;
+        caps = src.caps;
+        for (int i = 0; i < src.joinedCount; i++) {
+            addJoined(src.joinedIds[i], src.joinedSlots[i], src.joinedX[i], src.joinedY[i]);
+        }
+        for (int i = 0; i < src.readyCount; i++) {
+            addReady(src.readyIds[i], src.readyValues[i]);
+        }
+        gameStart = src.gameStart;  // 메시지마다 새 객체 → 그대로 넘겨도 안전
+        t0 = src.t0;
+        t1 = src.t1;
+        t2 = src.t2;
+        seq = src.seq;
+        if (src.type == Type.WORLD_STATE || src.type == Type.RESUMED) world.copyFrom(src.world);
+    }
+
+    void addJoined(String id, int slot, float px, float py) {
+        if (joinedCount == joinedIds.length) {
+            int n = joinedCount * 2;
+            joinedIds = Arrays.copyOf(joinedIds, n);
+            joinedX = Arrays.copyOf(joinedX, n);
+            joinedY = Arrays.copyOf(joinedY, n);
+            joinedSlots = Arrays.copyOf(joinedSlots, n);
+        }
+        joinedIds[joinedCount] = id;
+        joinedX[joinedCount] = px;
+        joinedY[joinedCount] = py;
+        joinedSlots[joinedCount] = slot;
+        joinedCount++;
+    }
+
+    void addReady(String id, boolean ready) {
+        if (readyCount == readyIds.length) {
+            int n = readyCount * 2;
+            readyIds = Arrays.copyOf(readyIds, n);
+            readyValues = Arrays.copyOf(readyValues, n);
+        }
+        readyIds[readyCount] = id;
+        readyValues[readyCount] = ready;
+        readyCount++;
+    }
+}
@@ -0,0 +1,232 @@
+package io.github.freeze.net;
+
+import io.github.freeze.log.Log;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.framing.TextFrame;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 송신 전용 스레드 + lock-free 다중 생산자 / 단일 소비자 링 버퍼
+ * - 게임 스레드는 슬롯에 복사만 하고 바로 리턴 (소켓 / 압축 / 락 대기 없음)
+ * - 슬롯 버퍼는 미리 할당해 재사용 (큰 메시지만 슬롯 버퍼를 키움)
+ * - 링이 가득 차면 생산자가 잠깐 양보하며 대기 (순서 유지)
+ * - 큐 깊이 / 보내기까지 걸린 시간 집계
+ * - 슬롯마다 넣을 때의 소켓을 기억 → 그 소켓이 끊겼으면 새 연결로 보내지 않음
+ *   신뢰 텍스트 메시지는 버리지 않고 돌려줌 (Net이 재연결 때 resume 다음에 다시 보냄)
+ */
+final class NetWriter implements Runnable {
+    static final int CAPACITY = 1024;  // 2의 거듭제곱
+    private static final int MASK = CAPACITY - 1;
+    private static final int SLOT_BYTES = 256;
+    private static final long IDLE_PARK_NANOS = 10000000L;  // 10ms (깨우기 누락 대비)
+
+    // 슬롯별 순번 (Vyukov 방식: seq == pos면 비어 있음, pos + 1이면 채워짐)
+    private final AtomicLongArray sequence = new AtomicLongArray(CAPACITY);
+    private final ByteBuffer[] buffers = new ByteBuffer[CAPACITY];
+    private final boolean[] binary = new boolean[CAPACITY];
+    private final long[] enqueuedAt = new long[CAPACITY];
+    private final WebSocketClient[] owners = new WebSocketClient[CAPACITY];
+    private final boolean[] reliable = new boolean[CAPACITY];
+    private final String[] keyTypes = new String[CAPACITY];
+    private final String[] keyIds = new String[CAPACITY];
+
+    private final AtomicLong tail = new AtomicLong();  // 생산자들이 CAS로 차지
+    private volatile long head;                         // 소비자(송신 스레드)만 씀
+    private volatile boolean waiting;
+
+    private volatile WebSocketClient ws;
+    private final TextFrame textFrame = new TextFrame();  // 송신 스레드 전용
+    private Thread thread;
+
+    // 통계
+    private final AtomicLong fullSpins = new AtomicLong();
+    private volatile long sent;
+    private volatile long totalLatencyNanos;
+    private volatile long maxLatencyNanos;
+    private volatile long maxDepth;
+    private volatile long failed;
+    private volatile long returned;
+
+    // 못 보낸 신뢰 메시지 (끊긴 경우에만 생기므로 여기서는 할당 허용)
+    static final class Unsent {
+        final byte[] json;
+        final String keyType, keyId;  // OfflineQueue 대체 키 (없으면 null)
+
+        Unsent(byte[] json, String keyType, String keyId) {
+            this.json = json;
+            this.keyType = keyType;
+            this.keyId = keyId;
+        }
+
+        String key() {
+            return keyType != null ? keyType + keyId : null;
+        }
+    }
+
+    private final ConcurrentLinkedQueue<Unsent> unsent = new ConcurrentLinkedQueue<>();
+
+    NetWriter() {
+        for (int i = 0; i < CAPACITY; i++) {
+            sequence.set(i, i);
+            buffers[i] = ByteBuffer.allocate(SLOT_BYTES);
+        }
+    }
+
+    synchronized void start() {
+        if (thread != null) return;
+        thread = new Thread(this, "net-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void setSocket(WebSocketClient ws) {
+        this.ws = ws;
+    }
+
+    // ★ 생산자 (아무 스레드): src의 남은 바이트를 슬롯에 복사해서 예약
+    //   끊기면 버려도 되는 것 (이동 바이너리 / ping / resume)
+    void offer(ByteBuffer src, boolean isBinary) {
+        offer(src, isBinary, false, null, null);
+    }
+
+    // 신뢰 텍스트 메시지: 못 보내고 끊기면 pollUnsent로 돌려받음 (keyType + keyId는 OfflineQueue 대체 키)
+    void offerReliable(ByteBuffer json, String keyType, String keyId) {
+        offer(json, false, true, keyType, keyId);
+    }
+
+    private void offer(ByteBuffer src, boolean isBinary, boolean isReliable, String keyType, String keyId) {
+        long pos;
+        int idx;
+        for (;;) {
+            pos = tail.get();
+            idx = (int) (pos & MASK);
+            long diff = sequence.get(idx) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) break;
+            } else if (diff < 0) {
+                fullSpins.incrementAndGet();  // 가득 참 → 송신 스레드가 비울 때까지 양보
+                Thread.yield();
+            }
+            // diff > 0: 다른 생산자가 먼저 차지 → 다시 시도
+        }
+
+        ByteBuffer buf = buffers[idx];
+        if (buf.capacity() < src.remaining()) {
+            buf = ByteBuffer.allocate(Math.max(src.remaining(), buf.capacity() * 2));
+            buffers[idx] = buf;
+        }
+        buf.clear();
+        buf.put(src);
+        buf.flip();
+        binary[idx] = isBinary;
+        reliable[idx] = isReliable;
+        keyTypes[idx] = keyType;
+        keyIds[idx] = keyId;
+        owners[idx] = ws;
+        enqueuedAt[idx] = System.nanoTime();
+        sequence.set(idx, pos + 1);  // 게시
+
+        if (waiting) LockSupport.unpark(thread);
+    }
+
+    // ★ 소비자: 송신 스레드 루프
+    @Override
+    public void run() {
+        long h = head;
+        for (;;) {
+            int idx = (int) (h & MASK);
+            if (sequence.get(idx) != h + 1) {
+                // 비어 있음 → 대기 (대기 표시 후 한 번 더 확인해서 깨우기 누락 방지)
+                waiting = true;
+                if (sequence.get(idx) != h + 1) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                waiting = false;
+                continue;
+            }
+
+            long depth = tail.get() - h;
+            if (depth > maxDepth) maxDepth = depth;
+
+            send(idx);
+            long latency = System.nanoTime() - enqueuedAt[idx];
+            owners[idx] = null;
+            keyTypes[idx] = keyIds[idx] = null;
+
+            sequence.set(idx, h + CAPACITY);  // 슬롯 반환
+            head = ++h;
+
+            sent++;
+            totalLatencyNanos += latency;
+            if (latency > maxLatencyNanos) maxLatencyNanos = latency;
+        }
+    }
+
+    private void send(int idx) {
+        ByteBuffer buf = buffers[idx];
+        WebSocketClient socket = owners[idx];
+        if (socket == null || socket != ws || !socket.isOpen()) {
+            giveBack(idx);  // 넣은 뒤 끊김 / 새 연결로 바뀜
+            return;
+        }
+        try {
+            if (binary[idx]) {
+                socket.send(buf);
+            } else {
+                // 재사용 프레임: sendFrame은 리턴 전에 인코딩하므로 슬롯 재사용 안전
+                textFrame.setPayload(buf);
+                textFrame.setFin(true);
+                textFrame.setRSV1(false);
+                socket.sendFrame(textFrame);
+            }
+        } catch (Exception e) {
+            Log.error("WS", "Send failed: {}", e.getMessage());
+            giveBack(idx);
+        }
+    }
+
+    private void giveBack(int idx) {
+        if (!reliable[idx]) {
+            failed++;
+            return;
+        }
+        ByteBuffer buf = buffers[idx];
+        byte[] json = new byte[buf.remaining()];
+        buf.get(json);
+        unsent.add(new Unsent(json, keyTypes[idx], keyIds[idx]));
+        returned++;
+    }
+
+    // ★ 지금까지 넣은 프레임을 송신 스레드가 다 처리할 때까지 대기 (최대 timeoutMs, 재연결 시 한 번)
+    boolean awaitFlushed(long timeoutMs) {
+        long target = tail.get();
+        long deadline = System.nanoTime() + timeoutMs * 1000000L;
+        while (head < target) {
+            if (System.nanoTime() - deadline > 0) return false;
+            if (waiting) LockSupport.unpark(thread);
+            Thread.yield();
+        }
+        return true;
+    }
+
+    // 끊겨서 못 보낸 신뢰 메시지 (넣은 순서), 없으면 null
+    Unsent pollUnsent() {
+        return unsent.poll();
+    }
+
+    // 현재 대기 중인 메시지 수
+    long depth() {
+        return tail.get() - head;
+    }
+
+    String report() {
+        long n = sent;
+        long avgMicros = n > 0 ? totalLatencyNanos / n / 1000L : 0L;
+        return "sent=" + n + " depth=" + depth() + " maxDepth=" + maxDepth
+                + " latency avg=" + avgMicros + "us max=" + maxLatencyNanos / 1000L + "us"
+                + " fullSpins=" + fullSpins.get() + " failed=" + failed + " returned=" + returned;
+    }
+}
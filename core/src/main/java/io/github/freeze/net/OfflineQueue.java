@@ -0,0 +1,132 @@
+package io.github.freeze.net;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 연결이 끊긴 동안 보낼 메시지 대기열
+ * - 같은 키(플레이어별 최신 이동, 최신 Ready 등)는 새 메시지가 예전 것을 대체
+ * - 키 있는 메시지만 최대 개수 / TTL 적용 (넘으면 가장 오래된 것부터 버림)
+ * - 키 없는 메시지(방 생성 / 입장 / 나가기 / 얼리기 / 스킬 등)는 버리지 않고 순서대로 전부 보냄
+ */
+final class OfflineQueue {
+    static final int DEFAULT_CAPACITY = 64;
+    static final long DEFAULT_TTL_MS = 10000;
+
+    // 대체 키 종류
+    static final String KEY_MOVE = "move:";
+    static final String KEY_READY = "ready:";
+    static final String KEY_MOVE_AREA = "moveArea";
+
+    private static final class Entry {
+        final String key;
+        final String json;
+        final long time;
+
+        Entry(String key, String json, long time) {
+            this.key = key;
+            this.json = json;
+            this.time = time;
+        }
+    }
+
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    private final Map<String, Entry> byKey = new HashMap<>();
+    private final int capacity;  // 키 있는 메시지 최대 개수
+    private final long ttlMs;
+
+    private int superseded;
+    private int dropped;
+
+    OfflineQueue() {
+        this(DEFAULT_CAPACITY, DEFAULT_TTL_MS);
+    }
+
+    OfflineQueue(int capacity, long ttlMs) {
+        this.capacity = capacity;
+        this.ttlMs = ttlMs;
+    }
+
+    // key가 null이면 대체 없이 순서대로 보관
+    void add(String key, String json) {
+        long now = System.currentTimeMillis();
+        expire(now);
+
+        if (key != null) {
+            Entry old = byKey.remove(key);
+            if (old != null) {
+                entries.remove(old);  // 용량이 작아서 선형 제거로 충분
+                superseded++;
+            }
+        }
+        if (key != null && byKey.size() >= capacity) {
+            removeOldestKeyed();
+            dropped++;
+        }
+
+        Entry e = new Entry(key, json, now);
+        entries.addLast(e);
+        if (key != null) byKey.put(key, e);
+    }
+
+    // 다음에 보낼 메시지 (TTL 지난 것은 건너뜀), 없으면 null
+    String poll() {
+        expire(System.currentTimeMillis());
+        Entry e = removeFirst();
+        return e != null ? e.json : null;
+    }
+
+    // 같은 키의 메시지가 대기 중인지 (더 새 값이 있으면 예전 것은 보낼 필요 없음)
+    boolean hasKey(String key) {
+        return byKey.containsKey(key);
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // 대체된 수 / 용량 초과·TTL로 버린 수 (키 있는 메시지만)
+    int getSuperseded() { return superseded; }
+    int getDropped() { return dropped; }
+
+    void clear() {
+        entries.clear();
+        byKey.clear();
+    }
+
+    // 오래된 순서로 보관 → TTL 안쪽 메시지를 만나면 멈춤 (키 없는 것은 건너뜀)
+    private void expire(long now) {
+        Iterator<Entry> it = entries.iterator();
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (now - e.time <= ttlMs) break;
+            if (e.key == null) continue;
+            it.remove();
+            byKey.remove(e.key);
+            dropped++;
+        }
+    }
+
+    private void removeOldestKeyed() {
+        Iterator<Entry> it = entries.iterator();
+        while (it.hasNext()) {
+            Entry e = it.next();
+            if (e.key == null) continue;
+            it.remove();
+            byKey.remove(e.key);
+            return;
+        }
+    }
+
+    private Entry removeFirst() {
+        Entry e = entries.pollFirst();
+        if (e != null && e.key != null && byKey.get(e.key) == e) byKey.remove(e.key);
+        return e;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.freeze.net;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 한 프레임 동안 보낸 JSON 메시지를 모아 batch 하나로 (BATCH 협상 시)
+ * - {"type":"batch","msgs":[m1,m2,...]}
+ * - 메시지가 1개뿐이면 봉투 없이 원래 메시지 그대로
+ * - 버퍼는 재사용 → finish() 결과는 clear() 전까지만 유효
+ */
+final class OutboundBatch {
+    private static final byte[] OPEN = "{\"type\":\"batch\",\"msgs\":[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CLOSE = "]}".getBytes(StandardCharsets.US_ASCII);
+
+    private ByteBuffer buf = ByteBuffer.allocate(4096);
+
+    // 메시지 경계 (연결이 끊겼을 때 하나씩 되돌리기 위함)
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int count;
+
+    int size() {
+        return count;
+    }
+
+    void add(ByteBuffer msg) {
+        if (count == 0) {
+            buf.clear();
+            put(OPEN);
+        } else {
+            putByte(',');
+        }
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        starts[count] = buf.position();
+        ensure(msg.remaining());
+        buf.put(msg);
+        ends[count] = buf.position();
+        count++;
+    }
+
+    // ★ 보낼 프레임 (flip된 상태)
+    ByteBuffer finish() {
+        if (count == 1) {
+            buf.limit(ends[0]);
+            buf.position(starts[0]);
+            return buf;
+        }
+        put(CLOSE);
+        buf.flip();
+        return buf;
+    }
+
+    // 연결이 끊긴 경우: 개별 메시지 문자열로 대기열에 되돌림
+    void drainTo(OfflineQueue queue) {
+        byte[] arr = buf.array();
+        for (int i = 0; i < count; i++) {
+            queue.add(null, new String(arr, starts[i], ends[i] - starts[i], StandardCharsets.UTF_8));
+        }
+        clear();
+    }
+
+    void clear() {
+        count = 0;
+        buf.clear();
+    }
+
+    private void put(byte[] b) {
+        ensure(b.length);
+        buf.put(b);
+    }
+
+    private void putByte(int b) {
+        ensure(1);
+        buf.put((byte) b);
+    }
+
+    private void ensure(int n) {
+        if (buf.remaining() >= n) return;
+        ByteBuffer bigger = ByteBuffer.allocate(Math.max(buf.capacity() * 2, buf.position() + n));
+        buf.flip();
+        bigger.put(buf);
+        buf = bigger;
+    }
+}
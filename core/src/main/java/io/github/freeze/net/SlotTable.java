@@ -0,0 +1,72 @@
+package io.github.freeze.net;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 방 단위 슬롯 번호 ↔ playerId 매핑
+ * - 서버가 입장 시 플레이어마다 작은 정수 슬롯을 배정 (playerJoined 스냅샷의 "slot")
+ * - 수신: 배열 인덱스로 바로 조회 / 송신: 내 ID의 슬롯만 캐시
+ * - 렌더 스레드에서만 사용할 것
+ */
+public final class SlotTable {
+    // 바이너리 프레임에서 u8로 보내므로 최대 256
+    public static final int MAX_SLOTS = 256;
+    public static final int NONE = -1;
+
+    private final String[] ids = new String[MAX_SLOTS];
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    // 마지막으로 조회한 ID 캐시 (매 틱 해싱 방지)
+    private String cachedId;
+    private int cachedSlot = NONE;
+
+    public static boolean isValid(int slot) {
+        return slot >= 0 && slot < MAX_SLOTS;
+    }
+
+    public void bind(int slot, String playerId) {
+        if (!isValid(slot) || playerId == null) return;
+        String old = ids[slot];
+        if (old != null) slots.remove(old);
+        Integer prev = slots.get(playerId);
+        if (prev != null) ids[prev] = null;  // 슬롯이 바뀐 경우
+
+        ids[slot] = playerId;
+        slots.put(playerId, slot);
+        cachedId = null;
+    }
+
+    public void unbind(int slot) {
+        if (!isValid(slot) || ids[slot] == null) return;
+        slots.remove(ids[slot]);
+        ids[slot] = null;
+        cachedId = null;
+    }
+
+    public void unbind(String playerId) {
+        Integer slot = playerId != null ? slots.get(playerId) : null;
+        if (slot != null) unbind(slot);
+    }
+
+    public String idOf(int slot) {
+        return isValid(slot) ? ids[slot] : null;
+    }
+
+    public int slotOf(String playerId) {
+        if (playerId == null) return NONE;
+        if (playerId.equals(cachedId)) return cachedSlot;
+        Integer slot = slots.get(playerId);
+        cachedId = playerId;
+        cachedSlot = slot != null ? slot : NONE;
+        return cachedSlot;
+    }
+
+    public void clear() {
+        Arrays.fill(ids, null);
+        slots.clear();
+        cachedId = null;
+        cachedSlot = NONE;
+    }
+}
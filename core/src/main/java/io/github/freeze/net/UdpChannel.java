@@ -0,0 +1,185 @@
+package io.github.freeze.net;
+
+import io.github.freeze.log.Log;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이동 전용 UDP 보조 채널 (UDP 협상 시, 신뢰 이벤트는 계속 WebSocket)
+ *
+ *  클라→서버  [0] op u8  [1] tokenLen u8  [2..] token  [..] seq u32  [..] MoveCodec 프레임
+ *  서버→클라  [0] op u8  [1..4] seq u32  [5..] MoveCodec 프레임
+ *  HELLO      클라→서버는 op + token만 / 서버→클라는 op만 (주소 등록 + 살아있음 확인)
+ *
+ * - 데이터그램마다 완결된 프레임 (델타 없음) → 잃어버려도 다음 것으로 복구
+ * - 서버 seq가 이미 받은 것 이하면 버림 (늦게 온 이동)
+ * - 서버 응답이 TIMEOUT_MS 동안 없으면 비활성 → Net이 WebSocket으로 되돌림
+ * - 수신은 전용 스레드 "net-udp", 송신은 호출 스레드 (넌블로킹 1회 write)
+ * - ★ 수신 버퍼 / seq는 스레드마다 따로 → 다시 열 때 이전 스레드가 아직 receive 중이어도 안전
+ */
+final class UdpChannel {
+    static final byte OP_HELLO = 0x10;
+    static final byte OP_MOVE = 0x11;
+    static final byte OP_PLAYER_MOVED = 0x12;
+    static final long TIMEOUT_MS = 3000L;
+    private static final int MAX_DATAGRAM = 512;
+
+    interface Receiver {
+        void onMove(MoveCodec.Move m);
+    }
+
+    private final Receiver receiver;
+    private volatile DatagramChannel channel;
+    private byte[] token;
+
+    // 송신 (호출 스레드, Net 락 안)
+    private final ByteBuffer out = ByteBuffer.allocate(MAX_DATAGRAM);
+    private int sendSeq;
+
+    private volatile long lastRecvAt;
+
+    // 통계
+    private volatile long sent;
+    private volatile long received;
+    private volatile long stale;
+
+    UdpChannel(Receiver receiver) {
+        this.receiver = receiver;
+    }
+
+    // ★ 서버 UDP 포트에 연결 + HELLO (이미 열려 있으면 닫고 다시)
+    synchronized void start(String host, int port, String token) throws IOException {
+        stop();
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        sendSeq = 0;
+        lastRecvAt = 0L;
+
+        DatagramChannel ch = DatagramChannel.open();
+        ch.connect(new InetSocketAddress(host, port));
+        channel = ch;
+        Thread t = new Thread(new Reader(ch), "net-udp");
+        t.setDaemon(true);
+        t.start();
+        sendHello();
+        Log.info("UDP", "Opened {}:{}", host, port);
+    }
+
+    synchronized void stop() {
+        DatagramChannel ch = channel;
+        channel = null;
+        if (ch == null) return;
+        try {
+            ch.close();  // 수신 스레드는 예외로 빠져나감
+        } catch (IOException ignored) {
+        }
+        Log.info("UDP", "Closed ({})", report());
+    }
+
+    // 서버가 최근에 응답했을 때만 이동을 여기로
+    boolean isActive() {
+        return channel != null && System.currentTimeMillis() - lastRecvAt < TIMEOUT_MS;
+    }
+
+    boolean isOpen() {
+        return channel != null;
+    }
+
+    // 주소 등록 + 살아있음 확인 (ping 주기로 호출)
+    synchronized void sendHello() {
+        out.clear();
+        out.put(OP_HELLO);
+        putToken();
+        out.flip();
+        write();
+    }
+
+    // ★ MoveCodec 프레임 하나를 seq와 함께 전송
+    synchronized boolean sendMove(ByteBuffer frame) {
+        out.clear();
+        out.put(OP_MOVE);
+        putToken();
+        out.putInt(++sendSeq);
+        out.put(frame);
+        out.flip();
+        return write();
+    }
+
+    // ★ 채널 하나의 수신 루프 (채널이 닫히거나 바뀌면 종료)
+    private final class Reader implements Runnable {
+        private final DatagramChannel ch;
+        private final ByteBuffer in = ByteBuffer.allocate(MAX_DATAGRAM);
+        private final MoveCodec.Move move = new MoveCodec.Move();
+        private boolean hasRecvSeq;
+        private int lastRecvSeq;
+
+        Reader(DatagramChannel ch) {
+            this.ch = ch;
+        }
+
+        @Override
+        public void run() {
+            while (ch == channel) {
+                try {
+                    in.clear();
+                    ch.receive(in);
+                    in.flip();
+                    if (ch != channel) break;  // 닫히는 사이 받은 것은 버림
+                    handle(in);
+                } catch (ClosedChannelException e) {
+                    break;
+                } catch (Exception e) {
+                    if (ch != channel) break;
+                    Log.error("UDP", "Receive failed: {}", e.getMessage());  // 포트 닫힘 등 → 계속 대기
+                }
+            }
+        }
+
+        private void handle(ByteBuffer buf) {
+            if (buf.remaining() < 1) return;
+            byte op = buf.get();
+            if (op == OP_HELLO) {
+                lastRecvAt = System.currentTimeMillis();
+                return;
+            }
+            if (op != OP_PLAYER_MOVED || buf.remaining() < 4) return;
+            int seq = buf.getInt();
+            if (hasRecvSeq && seq - lastRecvSeq <= 0) {  // 순환해도 안전한 비교
+                stale++;
+                return;
+            }
+            if (!MoveCodec.decode(buf, move)) return;
+            hasRecvSeq = true;
+            lastRecvSeq = seq;
+            lastRecvAt = System.currentTimeMillis();
+            received++;
+            receiver.onMove(move);
+        }
+    }
+
+    private void putToken() {
+        out.put((byte) token.length);
+        out.put(token);
+    }
+
+    private boolean write() {
+        DatagramChannel ch = channel;
+        if (ch == null) return false;
+        try {
+            ch.write(out);
+            sent++;
+            return true;
+        } catch (IOException e) {
+            Log.error("UDP", "Send failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    String report() {
+        return "sent=" + sent + " received=" + received + " stale=" + stale;
+    }
+}
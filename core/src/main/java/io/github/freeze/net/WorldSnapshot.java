@@ -0,0 +1,80 @@
+package io.github.freeze.net;
+
+import java.util.Arrays;
+
+/**
+ * worldState 메시지 1개 (한 틱의 모든 플레이어 상태)
+ * - 서버 형식: {"type":"worldState","tick":n,"players":[id 또는 slot, x, y, dx, dy, flags, ...]}
+ * - players는 6개씩 끊어 읽는 평탄한 배열
+ * - 객체는 재사용 → onWorldSnapshot 호출 안에서만 유효
+ */
+public final class WorldSnapshot {
+    public static final int STRIDE = 6;
+    public static final int FLAG_FROZEN = 1;
+
+    public int tick;
+    public int count;
+
+    public int[] slots = new int[8];        // 없으면 SlotTable.NONE
+    public String[] ids = new String[8];    // 슬롯만 왔으면 Net이 채움 (모르는 슬롯이면 null)
+    public float[] x = new float[8];
+    public float[] y = new float[8];
+    public float[] dx = new float[8];
+    public float[] dy = new float[8];
+    public int[] flags = new int[8];
+
+    public boolean isFrozen(int i) {
+        return (flags[i] & FLAG_FROZEN) != 0;
+    }
+
+    void add(int slot, String id, float px, float py, float pdx, float pdy, int f) {
+        if (count == ids.length) {
+            int n = count * 2;
+            slots = Arrays.copyOf(slots, n);
+            ids = Arrays.copyOf(ids, n);
+            x = Arrays.copyOf(x, n);
+            y = Arrays.copyOf(y, n);
+            dx = Arrays.copyOf(dx, n);
+            dy = Arrays.copyOf(dy, n);
+            flags = Arrays.copyOf(flags, n);
+        }
+        slots[count] = slot;
+        ids[count] = id;
+        x[count] = px;
+        y[count] = py;
+        dx[count] = pdx;
+        dy[count] = pdy;
+        flags[count] = f;
+        count++;
+    }
+
+    // 다른 스레드로 넘길 때 복사 (배열은 모자랄 때만 새로)
+    void copyFrom(WorldSnapshot src) {
+        clear();
+        if (ids.length < src.count) {
+            int n = src.ids.length;
+            slots = new int[n];
+            ids = new String[n];
+            x = new float[n];
+            y = new float[n];
+            dx = new float[n];
+            dy = new float[n];
+            flags = new int[n];
+        }
+        tick = src.tick;
+        count = src.count;
+        System.arraycopy(src.slots, 0, slots, 0, count);
+        System.arraycopy(src.ids, 0, ids, 0, count);
+        System.arraycopy(src.x, 0, x, 0, count);
+        System.arraycopy(src.y, 0, y, 0, count);
+        System.arraycopy(src.dx, 0, dx, 0, count);
+        System.arraycopy(src.dy, 0, dy, 0, count);
+        System.arraycopy(src.flags, 0, flags, 0, count);
+    }
+
+    void clear() {
+        Arrays.fill(ids, 0, count, null);
+        tick = 0;
+        count = 0;
+    }
+}
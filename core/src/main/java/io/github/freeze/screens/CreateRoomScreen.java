@@ -21,6 +21,7 @@ import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
 
 import com.badlogic.gdx.graphics.GL20;
 import io.github.freeze.Core;
+import io.github.freeze.log.Log;
 import io.github.freeze.net.Net;
 
 public class CreateRoomScreen implements Screen {
@@ -107,7 +108,7 @@ public class CreateRoomScreen implements Screen {
                     nick = "Player" + (int)(Math.random() * 10000);
                     pref.putString("nickname", nick);
                     pref.flush();
-                    Gdx.app.log("CREATE", "랜덤 닉네임 생성 및 저장: " + nick);
+                    Log.info("CREATE", "랜덤 닉네임 생성 및 저장: {}", nick);
                 }
                 
                 // ★ 필드에 저장 (LobbyScreen에 전달용)
@@ -115,7 +116,7 @@ public class CreateRoomScreen implements Screen {
 
                 // 입력 검증
                 if (code.isEmpty() || title.isEmpty()) {
-                    Gdx.app.log("CREATE", "방 코드와 제목을 입력하세요!");
+                    Log.info("CREATE", "방 코드와 제목을 입력하세요!");
                     return;
                 }
 
@@ -125,19 +126,19 @@ public class CreateRoomScreen implements Screen {
                 // 필요 시 즉시 연결 시도
                 if (!Net.get().isOpen()) {
                     try { 
-                        Net.get().connect("ws://203.234.62.48:9090/ws"); 
+                        Net.get().connect(); 
                     } catch (Exception ex) { 
-                        Gdx.app.error("NET", "connect fail", ex); 
+                        Log.error("NET", "connect fail", ex); 
                         return;
                     }
                 }
 
                 // 방 생성 요청
                 try {
-                    Gdx.app.log("CREATE", "방 생성: code=" + code + ", title=" + title + ", nick=" + nick);
+                    Log.info("CREATE", "방 생성: code={}, title={}, nick={}", code, title, nick);
                     Net.get().sendCreateRoom(code, title, pass, nick);
                 } catch (Throwable t) {
-                    Gdx.app.error("NET", "createRoom send failed", t);
+                    Log.error("NET", "createRoom send failed", t);
                 }
             }
         });
@@ -330,26 +331,26 @@ public class CreateRoomScreen implements Screen {
             public void onPlayerJoined(String playerId, float x, float y) {
                 // ★ 플레이어 위치 저장
                 playerPositions.put(playerId, new float[]{x, y});
-                Gdx.app.log("CREATE", "플레이어 추가: " + playerId + " at (" + x + ", " + y + ")");
+                Log.info("CREATE", "플레이어 추가: {} at ({}, {})", playerId, x, y);
             }
             
             @Override
             public void onPlayerReady(String playerId, boolean isReady) {
                 // ★ Ready 상태 저장
                 readyStatus.put(playerId, isReady);
-                Gdx.app.log("CREATE", "Ready 상태: " + playerId + " = " + isReady);
+                Log.info("CREATE", "Ready 상태: {} = {}", playerId, isReady);
             }
             
             @Override
             public void onCreateRoomOk(String roomId) {
-                Gdx.app.log("CREATE", "방 생성 완료! roomId=" + roomId + ", players=" + playerPositions.keySet() + ", ready=" + readyStatus + ", myNick=" + myNickname);
+                Log.info("CREATE", "방 생성 완료! roomId={}, players={}, ready={}, myNick={}", roomId, playerPositions.keySet(), readyStatus, myNickname);
                 // ★ LobbyScreen으로 이동 (플레이어 위치 + Ready 상태 + 내 닉네임 전달)
                 app.setScreen(new LobbyScreen(app, roomId, playerPositions, readyStatus, myNickname));
             }
 
             @Override
             public void onServerError(String code, String message) {
-                Gdx.app.error("CREATE", "서버 에러: " + code + " - " + message);
+                Log.error("CREATE", "서버 에러: {} - {}", code, message);
                 // TODO: 에러 메시지 표시
             }
         });
@@ -15,6 +15,7 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import io.github.freeze.Core;
+import io.github.freeze.log.Log;
 import io.github.freeze.net.Net;
 
 public class EnterRoomScreen implements Screen {
@@ -96,7 +97,7 @@ public class EnterRoomScreen implements Screen {
                     nick = "Player" + (int)(Math.random() * 10000);
                     pref.putString("nickname", nick);
                     pref.flush();
-                    Gdx.app.log("ENTER", "랜덤 닉네임 생성 및 저장: " + nick);
+                    Log.info("ENTER", "랜덤 닉네임 생성 및 저장: {}", nick);
                 }
                 
                 // ★ 필드에 저장 (LobbyScreen에 전달용)
@@ -104,26 +105,26 @@ public class EnterRoomScreen implements Screen {
                 
                 // 입력 검증
                 if (code.isEmpty()) {
-                    Gdx.app.log("ENTER", "방 코드를 입력하세요!");
+                    Log.info("ENTER", "방 코드를 입력하세요!");
                     return;
                 }
                 
                 // 필요 시 즉시 연결 시도
                 if (!Net.get().isOpen()) {
                     try { 
-                        Net.get().connect("ws://203.234.62.48:9090/ws"); 
+                        Net.get().connect(); 
                     } catch (Exception ex) { 
-                        Gdx.app.error("NET", "connect fail", ex); 
+                        Log.error("NET", "connect fail", ex); 
                         return;
                     }
                 }
                 
                 // 방 입장 요청
                 try {
-                    Gdx.app.log("ENTER", "방 입장: code=" + code + ", nick=" + nick);
+                    Log.info("ENTER", "방 입장: code={}, nick={}", code, nick);
                     Net.get().sendJoinRoom(code, nick);
                 } catch (Throwable t) {
-                    Gdx.app.error("NET", "joinRoom send failed", t);
+                    Log.error("NET", "joinRoom send failed", t);
                 }
             }
         });
@@ -293,26 +294,26 @@ public class EnterRoomScreen implements Screen {
             public void onPlayerJoined(String playerId, float x, float y) {
                 // ★ 플레이어 위치 저장
                 playerPositions.put(playerId, new float[]{x, y});
-                Gdx.app.log("ENTER", "플레이어 추가: " + playerId + " at (" + x + ", " + y + ")");
+                Log.info("ENTER", "플레이어 추가: {} at ({}, {})", playerId, x, y);
             }
             
             @Override
             public void onPlayerReady(String playerId, boolean isReady) {
                 // ★ Ready 상태 저장
                 readyStatus.put(playerId, isReady);
-                Gdx.app.log("ENTER", "Ready 상태: " + playerId + " = " + isReady);
+                Log.info("ENTER", "Ready 상태: {} = {}", playerId, isReady);
             }
             
             @Override
             public void onJoinOk(String roomId) {
-                Gdx.app.log("ENTER", "방 입장 완료! roomId=" + roomId + ", players=" + playerPositions.keySet() + ", ready=" + readyStatus + ", myNick=" + myNickname);
+                Log.info("ENTER", "방 입장 완료! roomId={}, players={}, ready={}, myNick={}", roomId, playerPositions.keySet(), readyStatus, myNickname);
                 // ★ LobbyScreen으로 이동 (플레이어 위치 + Ready 상태 + 내 닉네임 전달)
                 app.setScreen(new LobbyScreen(app, roomId, playerPositions, readyStatus, myNickname));
             }
 
             @Override
             public void onServerError(String code, String message) {
-                Gdx.app.error("ENTER", "서버 에러: " + code + " - " + message);
+                Log.error("ENTER", "서버 에러: {} - {}", code, message);
                 // TODO: 에러 메시지 표시
             }
         });
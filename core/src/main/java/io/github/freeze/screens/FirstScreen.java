@@ -14,6 +14,7 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import io.github.freeze.Core;
+import io.github.freeze.log.Log;
 import com.badlogic.gdx.graphics.GL20;
 public class FirstScreen implements Screen {
 
@@ -71,7 +72,7 @@ public class FirstScreen implements Screen {
 
         btnCreate.addListener(new ClickListener() {
             @Override public void clicked(InputEvent e, float x, float y) {
-                Gdx.app.log("UI","방 만들기 클릭");
+                Log.info("UI","방 만들기 클릭");
                 app.setScreen(new CreateRoomScreen(app));   // ← 방 만들기 화면
             }
         });
@@ -85,7 +86,7 @@ public class FirstScreen implements Screen {
         // 설정
         btnOption.addListener(new ClickListener() {
             @Override public void clicked(InputEvent event, float x, float y) {
-                Gdx.app.log("UI", "설정");
+                Log.info("UI", "설정");
                 app.setScreen(new SettingScreen(app));
             }
         });
@@ -17,7 +17,13 @@ import com.badlogic.gdx.Preferences;
 
 import io.github.freeze.Core;
 import io.github.freeze.game.*;
+import io.github.freeze.log.Log;
+import io.github.freeze.net.Caps;
+import io.github.freeze.net.GameStart;
+import io.github.freeze.net.MoveSendPolicy;
 import io.github.freeze.net.Net;
+import io.github.freeze.net.SlotTable;
+import io.github.freeze.net.WorldSnapshot;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -92,6 +98,7 @@ public class GameScreen implements Screen {
 
     // 플레이어들
     private Map<String, Player> players = new HashMap<>();
+    private final Player[] playersBySlot = new Player[SlotTable.MAX_SLOTS];  // ★ 이동 수신용 (슬롯 인덱스)
     private String myPlayerId;
     private Player myPlayer;
 
@@ -108,14 +115,31 @@ public class GameScreen implements Screen {
     private boolean debugColliders = false;
 
     // 입력
-    private float moveSendTimer = 0f;
-    private static final float MOVE_SEND_INTERVAL = 0.02f; // ★ 20ms = 50fps (33ms → 20ms)
+    // ★ 이동 전송 시점 (방향·상태 변화 / 예측 오차 / keyframe, 혼잡하면 늦춤)
+    private final MoveSendPolicy moveSend = new MoveSendPolicy(Net.get());
+    private static final float MOVE_SPEED_SCALE = 1.5f;  // ★ 맵 크기 1.5배 보정
+    
+    // ★ 이동 충돌 계산용 재사용 값 (스텝마다 할당 없음)
+    private final Rectangle stepHb = new Rectangle();
+    private final Rectangle playerHb = new Rectangle();
+    private final Vector2 stepOut = new Vector2();
+    private final Player.MoveResolver moveResolver = this::stepMove;  // 원격 추측 항법도 같은 충돌 처리
+    
+    // ★ 권위 이동 (AUTH_MOVE 협상 시): 입력 기록 + 서버 확인 후 재적용
+    private final InputHistory inputs = new InputHistory(256);  // 약 4초
+    private float stepAccum = 0f;
+    private static final int MAX_STEPS_PER_FRAME = 8;    // 긴 프레임 뒤 몰아서 계산하는 한도
+    private static final int MAX_RUN_STEPS = 4;          // 같은 방향이어도 4스텝(약 67ms)마다 전송
+    private static final float RECONCILE_EPSILON = 0.5f; // 이보다 작은 차이는 무시 (전송 반올림)
+    private int corrections = 0;
+    private int maxReplaySteps = 0;
     
     // ★ 이전 프레임 이동 상태 (정지 메시지 전송용)
     private boolean wasMovingLastFrame = false;
 
     // ★ 게임 타이머 및 승패 관리
     private float gameTime = 180f;  // 3분 = 180초
+    private static final float MAX_START_LAG = 10f;  // 시작 시각 보정 최대치 (초)
     private boolean gameOver = false;
     private boolean isWinner = false;
     private float gameOverTimer = 0f;
@@ -128,16 +152,33 @@ public class GameScreen implements Screen {
     private float freezeWaitTimer = 0f;  // 전멸 후 대기 시간
     private static final float FREEZE_WAIT_DURATION = 2f;  // 2초 대기
 
+    // ★ 내가 보낸 빙결/해빙을 서버가 아직 확인 안 한 대상 (playerId → 보낸 시각)
+    //   그 사이 온 스냅샷은 내 요청 전 상태일 수 있음 → 빙결 상태 보정을 건너뜀
+    private static final long FREEZE_CONFIRM_MS = 1000L;  // 확인이 안 와도 이만큼 지나면 다시 스냅샷 기준
+    private final Map<String, Long> pendingFreezeAt = new HashMap<>();
+
     // ★ 서버에서 받은 역할 정보
     private Map<String, PlayerRole> serverRoles = new HashMap<>();
+    private GameStart gameStart;  // 스폰 위치 / 시간 (없으면 null)
 
     public GameScreen(Core app) {
-        this(app, null);  // 테스트 모드
+        this(app, null, null);  // 테스트 모드
+    }
+
+    // ★ 서버 연동용 생성자 (gameStarted 해석 결과)
+    public GameScreen(Core app, GameStart start) {
+        this(app, start, start != null ? start.roles : null);
     }
 
     // ★ 서버 연동용 생성자
     public GameScreen(Core app, Map<String, PlayerRole> roles) {
+        this(app, null, roles);
+    }
+
+    private GameScreen(Core app, GameStart start, Map<String, PlayerRole> roles) {
         this.app = app;
+        this.gameStart = start;
+        applyMatchTiming(start);
         this.stage = new Stage(new FitViewport(VW, VH), app.batch);
         Gdx.input.setInputProcessor(stage);
         stage.getViewport().update(Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight(), true);
@@ -315,6 +356,9 @@ public class GameScreen implements Screen {
 
         final float LM = 0.066f, RM = 0.066f, TM = 0.090f, BM = 0.090f;
         playArea.set(x + w * LM, y + h * BM, w * (1f - LM - RM), h * (1f - TM - BM));
+        
+        // ★ 이동 좌표 양자화 기준
+        Net.get().setMoveArea(playArea.x, playArea.y, playArea.width, playArea.height);
     }
 
     // ========== UI 설정 ==========
@@ -358,40 +402,69 @@ public class GameScreen implements Screen {
     private void setupNetworkListener() {
         Net.get().setListener(new Net.Listener() {
             @Override
-            public void onGameStart(String roleJson) {
+            public void onGameStart(GameStart start) {
                 // TODO: 역할 파싱 및 플레이어 생성
-                Gdx.app.log("GAME", "Game started! Role: " + roleJson);
+                Log.info("GAME", "Game started! Roles: {}", start.roles);
             }
 
             // ★★★ 수정: dx, dy 파라미터 추가 및 moveOther 호출 ★★★
             @Override
-            public void onPlayerMove(String playerId, float dx, float dy, float x, float y) {
-                Player p = players.get(playerId);
-                if (p != null && !playerId.equals(myPlayerId)) {
+            public void onPlayerMoveSlot(int slot, String playerId, float dx, float dy, float x, float y) {
+                Player p = playerBySlot(slot, playerId);
+                if (p != null && p != myPlayer) {
                     p.moveOther(dx, dy, x, y);  // ★ 애니메이션 포함 이동
-                    Gdx.app.log("GAME", "Player moved: " + playerId + " dx=" + dx + " dy=" + dy);
+                    // ★ 매 틱 로그 → MOVE 태그 (기본 꺼짐, 켜도 샘플링)
+                    if (Log.isDebug("MOVE")) Log.debug("MOVE", "Player moved: {} dx={} dy={}", playerId, dx, dy);
+                }
+            }
+
+            // ★ 권위 이동: 서버 기준 내 위치 → 확인 안 된 입력 다시 적용
+            @Override
+            public void onMoveAck(int seq, float x, float y) {
+                reconcile(seq, x, y);
+            }
+
+            // ★ worldState: 한 틱의 전체 플레이어를 한 번에 적용
+            @Override
+            public void onWorldSnapshot(WorldSnapshot world) {
+                for (int i = 0; i < world.count; i++) {
+                    if (world.ids[i] == null) continue;
+                    Player p = playerBySlot(world.slots[i], world.ids[i]);
+                    if (p == null || p == myPlayer) continue;
+                    
+                    p.moveOther(world.dx[i], world.dy[i], world.x[i], world.y[i]);
+                    
+                    // 놓친 빙결/해빙 이벤트 보정 (서버 상태 기준, 내 요청이 확인 대기 중이면 건너뜀)
+                    if (isFreezePending(p.getPlayerId())) continue;
+                    if (world.isFrozen(i)) {
+                        if (!p.isFrozen()) p.startFreeze();
+                    } else if (p.getState() == PlayerState.FROZEN) {
+                        p.startUnfreeze();
+                    }
                 }
             }
 
             @Override
             public void onPlayerFreeze(String targetId, String attackerId) {
+                pendingFreezeAt.remove(targetId);  // 서버가 확인
                 Player target = players.get(targetId);
                 if (target != null) {
                     target.startFreeze();
-                    Gdx.app.log("GAME", "★ 빙결 동기화: " + targetId + " (공격자: " + attackerId + ")");
+                    Log.info("GAME", "★ 빙결 동기화: {} (공격자: {})", targetId, attackerId);
                 } else {
-                    Gdx.app.log("GAME", "⚠️ 빙결 실패: " + targetId + " 플레이어 없음");
+                    Log.info("GAME", "⚠️ 빙결 실패: {} 플레이어 없음", targetId);
                 }
             }
 
             @Override
             public void onPlayerUnfreeze(String targetId, String unfreezeId) {
+                pendingFreezeAt.remove(targetId);
                 Player target = players.get(targetId);
                 if (target != null) {
                     target.startUnfreeze();
-                    Gdx.app.log("GAME", "★ 해빙 동기화: " + targetId + " (해빙자: " + unfreezeId + ")");
+                    Log.info("GAME", "★ 해빙 동기화: {} (해빙자: {})", targetId, unfreezeId);
                 } else {
-                    Gdx.app.log("GAME", "⚠️ 해빙 실패: " + targetId + " 플레이어 없음");
+                    Log.info("GAME", "⚠️ 해빙 실패: {} 플레이어 없음", targetId);
                 }
             }
 
@@ -409,24 +482,24 @@ public class GameScreen implements Screen {
                         break;
                     case "attack":  // ★ Chaser 공격 시작
                         p.startAttack();
-                        Gdx.app.log("GAME", playerId + " 공격 시작!");
+                        Log.info("GAME", "{} 공격 시작!", playerId);
                         break;
                     case "attackCancel":  // ★ Chaser 공격 종료
                         p.cancelAttack();
-                        Gdx.app.log("GAME", playerId + " 공격 종료!");
+                        Log.info("GAME", "{} 공격 종료!", playerId);
                         break;
                     case "unfreezeStart":  // ★ Runner 해빙 시작
                         if (targetId != null) {
                             Player target = players.get(targetId);
                             if (target != null) {
                                 p.startUnfreezeTarget(target);
-                                Gdx.app.log("GAME", playerId + " → " + targetId + " 해빙 시작!");
+                                Log.info("GAME", "{} → {} 해빙 시작!", playerId, targetId);
                             }
                         }
                         break;
                     case "unfreezeCancel":  // ★ Runner 해빙 취소
                         p.cancelUnfreeze();
-                        Gdx.app.log("GAME", playerId + " 해빙 취소!");
+                        Log.info("GAME", "{} 해빙 취소!", playerId);
                         break;
                 }
             }
@@ -441,6 +514,36 @@ public class GameScreen implements Screen {
         });
     }
 
+    // ★ 슬롯 번호로 플레이어 조회 (처음 한 번만 맵 조회 후 배열에 캐시)
+    private Player playerBySlot(int slot, String playerId) {
+        if (!SlotTable.isValid(slot)) return players.get(playerId);
+        Player p = playersBySlot[slot];
+        if (p == null || !p.getPlayerId().equals(playerId)) {  // 빈 슬롯 또는 재배정된 슬롯
+            p = players.get(playerId);
+            playersBySlot[slot] = p;
+        }
+        return p;
+    }
+
+    // ★ 빙결/해빙 요청 보냄 → 서버 확인(playerFreeze / playerUnfreeze) 전까지 스냅샷 보정 안 함
+    private void markFreezePending(String playerId) {
+        if (playerId != null) pendingFreezeAt.put(playerId, TimeUtils.millis());
+    }
+
+    private boolean isFreezePending(String playerId) {
+        Long sentAt = pendingFreezeAt.get(playerId);
+        if (sentAt == null) return false;
+        if (TimeUtils.timeSinceMillis(sentAt) < FREEZE_CONFIRM_MS) return true;
+        pendingFreezeAt.remove(playerId);  // 확인이 안 옴 → 서버 상태를 따름
+        return false;
+    }
+
+    private void clearSlot(Player player) {
+        for (int i = 0; i < playersBySlot.length; i++) {
+            if (playersBySlot[i] == player) playersBySlot[i] = null;
+        }
+    }
+
     // ========== 테스트용 플레이어 생성 ==========
     private void createTestPlayers() {
         float heroH = worldH * 0.15f;
@@ -526,15 +629,30 @@ public class GameScreen implements Screen {
 
             players.put(runnerId, testRunner);
             
-            Gdx.app.log("TEST", "=== 로컬 테스트 모드 ===");
-            Gdx.app.log("TEST", "Chaser: WASD 이동, Q 공격");
-            Gdx.app.log("TEST", "Runner: 화살표 이동, 1 안개, 2 대시, 3 해동");
+            Log.info("TEST", "=== 로컬 테스트 모드 ===");
+            Log.info("TEST", "Chaser: WASD 이동, Q 공격");
+            Log.info("TEST", "Runner: 화살표 이동, 1 안개, 2 대시, 3 해동");
         }
 
         chaserImage.toFront();
         centerCameraOnPlayer(myPlayer);
     }
 
+    // ★ 서버가 보낸 경기 시간 / 시작 시각 반영
+    private void applyMatchTiming(GameStart start) {
+        if (start == null || start.duration <= 0f) return;
+        gameTime = start.duration;
+
+        // 시작 시각이 있으면 이미 지난 만큼 차감 (서버 시계 기준, 차이가 커 보이면 무시)
+        if (start.serverStartTime > 0) {
+            float elapsed = (Net.get().serverTimeNow() - start.serverStartTime) / 1000f;
+            if (elapsed > 0f && elapsed < MAX_START_LAG) {
+                gameTime = Math.max(0f, start.duration - elapsed);
+            }
+        }
+        Log.info("GAME", "경기 시간: {}초", gameTime);
+    }
+
     // ========== 서버 모드: 역할 정보로 플레이어 생성 ==========
     private void createPlayersFromServer(Map<String, PlayerRole> roles) {
         // ★ Preferences에서 내 닉네임 가져오기
@@ -545,7 +663,7 @@ public class GameScreen implements Screen {
         }
         myPlayerId = myNick;
 
-        Gdx.app.log("GAME", "서버 모드 - 플레이어 생성 시작 (내 ID: " + myPlayerId + ")");
+        Log.info("GAME", "서버 모드 - 플레이어 생성 시작 (내 ID: {})", myPlayerId);
 
         for (Map.Entry<String, PlayerRole> entry : roles.entrySet()) {
             String playerId = entry.getKey();
@@ -554,11 +672,17 @@ public class GameScreen implements Screen {
             Player player = createPlayerWithRole(playerId, role);
             players.put(playerId, player);
 
+            // ★ 서버가 스폰 위치를 정했으면 그 위치로
+            if (gameStart != null && gameStart.hasSpawn(playerId)) {
+                float[] spawn = gameStart.spawns.get(playerId);
+                player.setPosition(spawn[0], spawn[1]);
+            }
+
             if (playerId.equals(myPlayerId)) {
                 myPlayer = player;
-                Gdx.app.log("GAME", "내 캐릭터 생성: " + playerId + " (" + role + ")");
+                Log.info("GAME", "내 캐릭터 생성: {} ({})", playerId, role);
             } else {
-                Gdx.app.log("GAME", "다른 플레이어 생성: " + playerId + " (" + role + ")");
+                Log.info("GAME", "다른 플레이어 생성: {} ({})", playerId, role);
             }
         }
 
@@ -570,7 +694,7 @@ public class GameScreen implements Screen {
             if (!localTestMode) {
                 Vector2 pos = myPlayer.getPosition();
                 Net.get().sendPlayerMove(myPlayerId, 0, 0, pos.x, pos.y);
-                Gdx.app.log("GAME", "초기 위치 전송: " + pos.x + ", " + pos.y);
+                Log.info("GAME", "초기 위치 전송: {}, {}", pos.x, pos.y);
             }
         }
     }
@@ -632,6 +756,8 @@ public class GameScreen implements Screen {
             world.addActor(chaserImage);
 
             Player player = new Player(playerId, PlayerRole.CHASER, chaserImage);
+            player.setSpeedScale(MOVE_SPEED_SCALE);  // ★ 원격 추측 항법도 같은 속도 + 같은 충돌 처리
+            player.setMoveResolver(moveResolver);
             player.setPosition(startX, startY);
             player.setNickname(playerId);  // ★ 서버에서 받은 ID를 닉네임으로
 
@@ -668,6 +794,8 @@ public class GameScreen implements Screen {
             world.addActor(runnerImage);
 
             Player player = new Player(playerId, PlayerRole.RUNNER, runnerImage);
+            player.setSpeedScale(MOVE_SPEED_SCALE);
+            player.setMoveResolver(moveResolver);
             player.setPosition(startX, startY);
             player.setNickname(playerId);  // ★ 서버에서 받은 ID를 닉네임으로
 
@@ -706,15 +834,16 @@ public class GameScreen implements Screen {
 
         Player player = createPlayerWithRole(playerId, role);
         players.put(playerId, player);
-        Gdx.app.log("GAME", "플레이어 추가: " + playerId + " (" + role + ")");
+        Log.info("GAME", "플레이어 추가: {} ({})", playerId, role);
     }
 
     // ★ 플레이어 제거 (퇴장)
     public void removePlayer(String playerId) {
         Player player = players.remove(playerId);
+        if (player != null) clearSlot(player);
         if (player != null && player.getImage() != null) {
             player.getImage().remove();
-            Gdx.app.log("GAME", "플레이어 제거: " + playerId);
+            Log.info("GAME", "플레이어 제거: {}", playerId);
         }
     }
 
@@ -739,18 +868,21 @@ public class GameScreen implements Screen {
         if (Gdx.input.isKeyPressed(Input.Keys.S)) dy -= 1f;
 
         // 이동 처리
-        if (dx != 0f || dy != 0f) {
+        boolean authMove = !localTestMode && Net.get().hasCap(Caps.AUTH_MOVE);
+        if (authMove && (dx != 0f || dy != 0f)) {
+            predictMove(dx, dy, delta);  // ★ 입력 전부 전송 (서버가 다시 계산하므로 건너뛰기 없음)
+            wasMovingLastFrame = true;
+        } else if (dx != 0f || dy != 0f) {
             movePlayerWithCollision(myPlayer, dx, dy, delta);
 
             // ★ 테스트 모드가 아닐 때만 서버 전송
             if (!localTestMode) {
-                moveSendTimer += delta;
-                if (moveSendTimer >= MOVE_SEND_INTERVAL) {
-                    // ★★★ 수정: 현재 위치(x, y)도 함께 전송 ★★★
-                    float x = myPlayer.getPosition().x;
-                    float y = myPlayer.getPosition().y;
-                    Net.get().sendPlayerMove(myPlayerId, dx, dy, x, y);
-                    moveSendTimer = 0f;
+                // ★★★ 수정: 현재 위치(x, y)도 함께 전송 ★★★
+                float x = myPlayer.getPosition().x;
+                float y = myPlayer.getPosition().y;
+                if (moveSend.update(delta, dx, dy, x, y, myPlayer.getSpeed() * MOVE_SPEED_SCALE,
+                        myPlayer.getState().ordinal())) {
+                    Net.get().sendPlayerMove(myPlayerId, moveSend.getDx(), moveSend.getDy(), x, y);
                 }
             }
             wasMovingLastFrame = true;  // ★ 이동 중 플래그
@@ -758,13 +890,22 @@ public class GameScreen implements Screen {
             // 이동 안 할 때 velocity 초기화 (애니메이션 멈춤)
             myPlayer.stopMoving();
             
+            // ★ 권위 이동: 남은 구간만 보내면 서버도 멈춤 (입력 없는 스텝은 기록 안 함)
+            if (authMove && wasMovingLastFrame) {
+                sendInputRun();
+                inputs.breakRun();
+                stepAccum = 0f;
+                wasMovingLastFrame = false;
+            }
+            
             // ★ 이동 → 정지 전환 시점에만 정지 메시지 전송!
             if (!localTestMode && wasMovingLastFrame) {
                 float x = myPlayer.getPosition().x;
                 float y = myPlayer.getPosition().y;
                 Net.get().sendPlayerMove(myPlayerId, 0, 0, x, y);  // dx=0, dy=0으로 정지 알림
-                Gdx.app.log("GAME", "정지 메시지 전송: " + myPlayerId);
+                Log.info("GAME", "정지 메시지 전송: {}", myPlayerId);
                 wasMovingLastFrame = false;
+                moveSend.reset();
             }
         }
         
@@ -799,9 +940,9 @@ public class GameScreen implements Screen {
             if (testRunner.getFogSkill().isActive()) {
                 // Chaser 화면에 안개 표시
                 fogEffect.activate();
-                Gdx.app.log("TEST", "★ Runner 안개 스킬! Chaser 화면에 안개!");
+                Log.info("TEST", "★ Runner 안개 스킬! Chaser 화면에 안개!");
             } else {
-                Gdx.app.log("TEST", "안개 쿨타임 중...");
+                Log.info("TEST", "안개 쿨타임 중...");
             }
         }
         
@@ -809,9 +950,9 @@ public class GameScreen implements Screen {
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_2) || Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) {
             testRunner.useDashSkill();
             if (testRunner.getDashSkill().isActive()) {
-                Gdx.app.log("TEST", "★ Runner 대시 스킬!");
+                Log.info("TEST", "★ Runner 대시 스킬!");
             } else {
-                Gdx.app.log("TEST", "대시 쿨타임 중...");
+                Log.info("TEST", "대시 쿨타임 중...");
             }
         }
         
@@ -819,9 +960,9 @@ public class GameScreen implements Screen {
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_3) || Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) {
             if (testRunner.isFrozen() || testRunner.getState() == PlayerState.FREEZING) {
                 testRunner.startUnfreeze();
-                Gdx.app.log("TEST", "★ Runner 해동!");
+                Log.info("TEST", "★ Runner 해동!");
             } else {
-                Gdx.app.log("TEST", "얼지 않은 상태");
+                Log.info("TEST", "얼지 않은 상태");
             }
         }
     }
@@ -881,7 +1022,7 @@ public class GameScreen implements Screen {
                     Net.get().sendSkillUse("attack");
                 }
                 
-                Gdx.app.log("TEST", "Chaser E 공격 시작!");
+                Log.info("TEST", "Chaser E 공격 시작!");
             }
 
             // 범위 내 Runner 빙결 시작/유지
@@ -894,11 +1035,12 @@ public class GameScreen implements Screen {
                         if (!p.isFrozen() && p.getState() != PlayerState.FREEZING) {
                             // ★ 로컬에서도 즉시 빙결 적용
                             p.startFreeze();
-                            Gdx.app.log("GAME", "★ " + p.getPlayerId() + " 빙결 시작!");
+                            Log.info("GAME", "★ {} 빙결 시작!", p.getPlayerId());
                             
                             // 서버에도 전송
                             if (!localTestMode) {
                                 Net.get().sendFreeze(p.getPlayerId());
+                                markFreezePending(p.getPlayerId());
                             }
                         }
                     }
@@ -914,18 +1056,19 @@ public class GameScreen implements Screen {
                     Net.get().sendSkillUse("attackCancel");
                 }
                 
-                Gdx.app.log("TEST", "Chaser E 공격 멈춤!");
+                Log.info("TEST", "Chaser E 공격 멈춤!");
                 
                 // 빙결 중인 Runner들 해빙 시작
                 for (Player p : players.values()) {
                     if (p.getRole() == PlayerRole.RUNNER && p.getState() == PlayerState.FREEZING) {
                         // ★ 로컬에서도 즉시 해빙 적용
                         p.startUnfreeze();
-                        Gdx.app.log("GAME", "★ " + p.getPlayerId() + " 해빙 시작!");
+                        Log.info("GAME", "★ {} 해빙 시작!", p.getPlayerId());
                         
                         // 서버에도 전송
                         if (!localTestMode) {
                             Net.get().sendUnfreeze(p.getPlayerId());
+                            markFreezePending(p.getPlayerId());
                         }
                     }
                 }
@@ -952,6 +1095,17 @@ public class GameScreen implements Screen {
 
     // ========== 이동 & 충돌 ==========
     private void movePlayerWithCollision(Player player, float dx, float dy, float delta) {
+        Image img = player.getImage();
+        float origX = img.getX();
+        float origY = img.getY();
+        
+        stepMove(player, origX, origY, dx, dy, player.getSpeed() * MOVE_SPEED_SCALE * delta, stepOut);
+        applyStep(player, origX, origY, dx, dy);
+    }
+    
+    // ★ 이동 한 스텝 (장애물 / 플레이어 충돌 + 맵 경계) → out에 결과 위치
+    //   입력과 현재 충돌 상태만 보는 순수 계산 + 할당 없음 → 예측 이동과 서버 보정 후 재적용이 같은 결과
+    private void stepMove(Player player, float x, float y, float dx, float dy, float dist, Vector2 out) {
         // 정규화
         float len = (float) Math.sqrt(dx * dx + dy * dy);
         if (len > 0f) {
@@ -959,26 +1113,18 @@ public class GameScreen implements Screen {
             dy /= len;
         }
 
-        // ★ 맵 크기 1.5배 보정
-        float speed = player.getSpeed() * 1.5f;
-        float vx = dx * speed * delta;
-        float vy = dy * speed * delta;
-
         Image img = player.getImage();
         float w = img.getWidth(), h = img.getHeight();
         float px = w * HERO_PAD, py = h * HERO_PAD;
         float hbW = w - 2f * px, hbH = h - 2f * py;
-        
-        float origX = img.getX();
-        float origY = img.getY();
 
         // ★ X축 이동 시도
-        float nx = origX + vx;
-        Rectangle hb = new Rectangle(nx + px, origY + py, hbW, hbH);
+        float nx = x + dx * dist;
+        stepHb.set(nx + px, y + py, hbW, hbH);
         
         // X축 충돌 시 → X 이동만 취소
-        if (collideWithObstacle(hb) != null || collideWithPlayer(player, hb) != null) {
-            nx = origX;
+        if (collideWithObstacle(stepHb) != null || collideWithPlayer(player, stepHb) != null) {
+            nx = x;
         }
         
         // 맵 경계 체크 (X)
@@ -987,12 +1133,12 @@ public class GameScreen implements Screen {
         nx = MathUtils.clamp(nx, left, right);
 
         // ★ Y축 이동 시도
-        float ny = origY + vy;
-        hb = new Rectangle(nx + px, ny + py, hbW, hbH);
+        float ny = y + dy * dist;
+        stepHb.set(nx + px, ny + py, hbW, hbH);
         
         // Y축 충돌 시 → Y 이동만 취소
-        if (collideWithObstacle(hb) != null || collideWithPlayer(player, hb) != null) {
-            ny = origY;
+        if (collideWithObstacle(stepHb) != null || collideWithPlayer(player, stepHb) != null) {
+            ny = y;
         }
         
         // 맵 경계 체크 (Y)
@@ -1000,18 +1146,66 @@ public class GameScreen implements Screen {
         float top = playArea.y + playArea.height - (h - py);
         ny = MathUtils.clamp(ny, bottom, top);
         
-        // 위치 적용
-        img.setX(nx);
-        img.setY(ny);
+        out.set(nx, ny);
+    }
+    
+    // stepOut 위치 적용 + 방향 (애니메이션용)
+    private void applyStep(Player player, float origX, float origY, float dx, float dy) {
+        float nx = stepOut.x, ny = stepOut.y;
         player.setPosition(nx, ny);
-        
-        // ★ 방향 설정 (애니메이션용)
         if (nx != origX || ny != origY) {
             player.updateDirection(dx, dy);  // 이동 중
         } else {
             player.stopMoving();  // 완전히 막힘
         }
     }
+    
+    // ★ 권위 이동 모드: 고정 스텝으로 예측 이동 + 입력 기록 (서버가 같은 스텝을 다시 계산)
+    //   방향 / 속도가 바뀌면 이전 구간과 새 첫 스텝을 바로, 이어지면 MAX_RUN_STEPS마다 전송
+    private void predictMove(float dx, float dy, float delta) {
+        stepAccum = Math.min(stepAccum + delta, InputHistory.STEP * MAX_STEPS_PER_FRAME);
+        while (stepAccum >= InputHistory.STEP) {
+            stepAccum -= InputHistory.STEP;
+            float speed = myPlayer.getSpeed() * MOVE_SPEED_SCALE;
+            boolean turned = inputs.differsFromLast(dx, dy, speed);
+            if (turned || inputs.runLength() >= MAX_RUN_STEPS) sendInputRun();
+            
+            inputs.record(dx, dy, speed);
+            Vector2 pos = myPlayer.getPosition();
+            float origX = pos.x, origY = pos.y;
+            stepMove(myPlayer, origX, origY, dx, dy, speed * InputHistory.STEP, stepOut);
+            applyStep(myPlayer, origX, origY, dx, dy);
+            
+            if (turned) sendInputRun();
+        }
+    }
+    
+    // 아직 안 보낸 구간 전송 (seq = 구간 마지막 스텝, x / y = 그 시점 예측 위치)
+    private void sendInputRun() {
+        int steps = inputs.runLength();
+        if (steps == 0) return;
+        Vector2 pos = myPlayer.getPosition();
+        Net.get().sendMoveInput(myPlayerId, inputs.lastSeq(), steps, inputs.lastDx(), inputs.lastDy(), pos.x, pos.y);
+        inputs.closeRun();
+    }
+    
+    // ★ 서버 확인: seq까지 처리한 위치에서 확인 안 된 입력을 같은 스텝으로 다시 적용
+    //   (다른 플레이어 충돌은 지금 위치 기준 → 서버와 조금 다를 수 있고, 그 차이는 다음 확인에서 보정)
+    private void reconcile(int seq, float x, float y) {
+        if (myPlayer == null) return;
+        inputs.ack(seq);
+        inputs.replay(myPlayer, x, y, moveResolver, stepOut);
+        float px = stepOut.x, py = stepOut.y;
+        int n = inputs.size();
+        if (n > maxReplaySteps) maxReplaySteps = n;
+        
+        Vector2 pos = myPlayer.getPosition();
+        float ex = px - pos.x, ey = py - pos.y;
+        if (ex * ex + ey * ey > RECONCILE_EPSILON * RECONCILE_EPSILON) {
+            corrections++;
+            myPlayer.setPosition(px, py);  // 예측이 틀렸음 → 서버 기준 결과로
+        }
+    }
 
     private Rectangle collideWithObstacle(Rectangle hb) {
         for (Rectangle r : hoopLRects) if (hb.overlaps(r)) return r;
@@ -1020,6 +1214,7 @@ public class GameScreen implements Screen {
     }
     
     // ★ 다른 플레이어와 충돌 체크
+    //   반환값은 다음 호출 전까지만 유효 (재사용 사각형)
     private Rectangle collideWithPlayer(Player me, Rectangle hb) {
         for (Player p : players.values()) {
             if (p == me) continue;  // 자기 자신 제외
@@ -1030,15 +1225,15 @@ public class GameScreen implements Screen {
             
             float pw = img.getWidth(), ph = img.getHeight();
             float ppx = pw * HERO_PAD, ppy = ph * HERO_PAD;
-            Rectangle playerRect = new Rectangle(
+            playerHb.set(
                 img.getX() + ppx, 
                 img.getY() + ppy, 
                 pw - 2f * ppx, 
                 ph - 2f * ppy
             );
             
-            if (hb.overlaps(playerRect)) {
-                return playerRect;
+            if (hb.overlaps(playerHb)) {
+                return playerHb;
             }
         }
         return null;
@@ -1092,7 +1287,7 @@ public class GameScreen implements Screen {
     public void show() {
         // ★ 화면 활성화 시 리스너 재설정
         setupNetworkListener();
-        Gdx.app.log("GAME", "Screen shown, listener reset!");
+        Log.info("GAME", "Screen shown, listener reset!");
     }
 
     @Override
@@ -1100,6 +1295,9 @@ public class GameScreen implements Screen {
         ScreenUtils.clear(0, 0, 0, 1);
         Gdx.gl.glViewport(0, 0, Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
         stage.getViewport().apply(true);
+        
+        // ★ 수신 이벤트 처리 (프레임 예산 안에서만, 남으면 다음 프레임)
+        Net.get().drainEvents();
 
         // ★ 게임 종료 처리
         if (gameOver) {
@@ -1122,18 +1320,18 @@ public class GameScreen implements Screen {
                 // 누군가 해빙됨 → 전멸 취소
                 allRunnersFrozenDetected = false;
                 freezeWaitTimer = 0f;
-                Gdx.app.log("GAME", "★ 전멸 취소! (해빙됨)");
+                Log.info("GAME", "★ 전멸 취소! (해빙됨)");
             } else {
                 // 여전히 전멸 상태 → 타이머 증가
                 freezeWaitTimer += delta;
                 if (freezeWaitTimer >= FREEZE_WAIT_DURATION) {
                     // 2초 경과 → 승패 확정
                     if (myPlayer == null) {
-                        Gdx.app.log("GAME", "⚠️ 전멸 판정 실패: myPlayer가 null");
+                        Log.info("GAME", "⚠️ 전멸 판정 실패: myPlayer가 null");
                         return;
                     }
                     boolean iWin = (myPlayer.getRole() == PlayerRole.CHASER);
-                    Gdx.app.log("GAME", "★★★ 전멸 판정! 내 역할: " + myPlayer.getRole() + ", 승리: " + iWin);
+                    Log.info("GAME", "★★★ 전멸 판정! 내 역할: {}, 승리: {}", myPlayer.getRole(), iWin);
                     triggerGameOver(iWin);
                     allRunnersFrozenDetected = false;
                 }
@@ -1148,11 +1346,11 @@ public class GameScreen implements Screen {
             if (gameTime <= 0) {
                 gameTime = 0;
                 if (myPlayer == null) {
-                    Gdx.app.log("GAME", "⚠️ 시간 종료 판정 실패: myPlayer가 null");
+                    Log.info("GAME", "⚠️ 시간 종료 판정 실패: myPlayer가 null");
                     return;
                 }
                 boolean iWin = (myPlayer.getRole() == PlayerRole.RUNNER);
-                Gdx.app.log("GAME", "★★★ 시간 종료! 내 역할: " + myPlayer.getRole() + ", 승리: " + iWin);
+                Log.info("GAME", "★★★ 시간 종료! 내 역할: {}, 승리: {}", myPlayer.getRole(), iWin);
                 triggerGameOver(iWin);
             }
         }
@@ -1177,7 +1375,7 @@ public class GameScreen implements Screen {
                 allRunnersFrozenDetected = true;
                 freezeWaitTimer = 0f;
                 String roleStr = (myPlayer != null ? myPlayer.getRole().toString() : "NULL");
-                Gdx.app.log("GAME", "★ 전멸 감지! 2초 후 게임 종료... (내 역할: " + roleStr + ")");
+                Log.info("GAME", "★ 전멸 감지! 2초 후 게임 종료... (내 역할: {})", roleStr);
             }
         }
 
@@ -1197,7 +1395,8 @@ public class GameScreen implements Screen {
             String targetId = myPlayer.getLastUnfreezeTargetId();
             if (targetId != null && !localTestMode) {
                 Net.get().sendUnfreeze(targetId);
-                Gdx.app.log("GAME", "해빙 완료! 서버에 전송: " + targetId);
+                markFreezePending(targetId);
+                Log.info("GAME", "해빙 완료! 서버에 전송: {}", targetId);
             }
             myPlayer.clearUnfreezeCompleted();
         }
@@ -1247,11 +1446,11 @@ public class GameScreen implements Screen {
     // ★ 게임 종료 트리거
     private void triggerGameOver(boolean won) {
         if (gameOver) {
-            Gdx.app.log("GAME", "⚠️ 이미 게임 종료됨! (중복 호출)");
+            Log.info("GAME", "⚠️ 이미 게임 종료됨! (중복 호출)");
             return;  // 이미 게임 종료됨
         }
         
-        Gdx.app.log("GAME", "★★★ triggerGameOver 호출! 승리: " + won + ", 역할: " + (myPlayer != null ? myPlayer.getRole() : "null"));
+        Log.info("GAME", "★★★ triggerGameOver 호출! 승리: {}, 역할: {}", won, myPlayer != null ? myPlayer.getRole() : "null");
         
         gameOver = true;
         isWinner = won;
@@ -1266,16 +1465,16 @@ public class GameScreen implements Screen {
             
             if (won) {
                 prefs.putInteger("wins", wins + 1);
-                Gdx.app.log("GAME", "승리! 전적: " + (wins + 1) + "승 " + losses + "패");
+                Log.info("GAME", "승리! 전적: {}승 {}패", wins + 1, losses);
             } else {
                 prefs.putInteger("losses", losses + 1);
-                Gdx.app.log("GAME", "패배! 전적: " + wins + "승 " + (losses + 1) + "패");
+                Log.info("GAME", "패배! 전적: {}승 {}패", wins, losses + 1);
             }
             
             prefs.flush();  // 저장
         }
         
-        Gdx.app.log("GAME", "게임 종료! 승리: " + won);
+        Log.info("GAME", "게임 종료! 승리: {}", won);
     }
     
     // ★ 게임 종료 처리
@@ -1299,16 +1498,15 @@ public class GameScreen implements Screen {
         Texture resultTex = isWinner ? texYouWin : texYouLose;
         
         if (gameOverTimer < 0.1f) {  // 첫 프레임에만 로그
-            Gdx.app.log("GAME", "★★★ handleGameOver 렌더링! isWinner: " + isWinner + 
-                       ", Texture: " + (resultTex != null ? "OK" : "NULL") +
-                       ", Screen: " + screenW + "x" + screenH);
+            Log.info("GAME", "★★★ handleGameOver 렌더링! isWinner: {}, Texture: {}, Screen: {}x{}",
+                       isWinner, resultTex != null ? "OK" : "NULL", screenW, screenH);
         }
         
         // ★ 화면 꽉 차게 그리기
         if (resultTex != null) {
             app.batch.draw(resultTex, 0, 0, screenW, screenH);
         } else {
-            Gdx.app.log("GAME", "⚠️ resultTex is NULL!");
+            Log.info("GAME", "⚠️ resultTex is NULL!");
         }
         
         app.batch.end();
@@ -1393,6 +1591,10 @@ public class GameScreen implements Screen {
 
     @Override
     public void hide() {
+        Log.info("GAME", "Move send: {}", moveSend.report());
+        if (inputs.lastSeq() > 0) {
+            Log.info("GAME", "Prediction: inputs={} corrections={} maxReplay={}", inputs.lastSeq(), corrections, maxReplaySteps);
+        }
         // 리스너 해제
         Net.get().setListener(null);
     }
@@ -20,7 +20,11 @@ import io.github.freeze.Core;
 import io.github.freeze.game.Player;
 import io.github.freeze.game.PlayerRole;
 import io.github.freeze.game.PlayerState;
+import io.github.freeze.log.Log;
+import io.github.freeze.net.GameStart;
+import io.github.freeze.net.MoveSendPolicy;
 import io.github.freeze.net.Net;
+import io.github.freeze.net.SlotTable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -65,6 +69,7 @@ public class LobbyScreen implements Screen {
 
     // 플레이어 정보
     private Map<String, Player> players = new HashMap<>();
+    private final Player[] playersBySlot = new Player[SlotTable.MAX_SLOTS];  // ★ 이동 수신용 (슬롯 인덱스)
     private Map<String, Boolean> readyStatus = new HashMap<>();  // ★ Ready 상태 관리
     private String myPlayerId;
     private boolean isHost = false;  // 방장 여부
@@ -76,9 +81,13 @@ public class LobbyScreen implements Screen {
     // 월드
     private Group world;
     
-    // 이동 전송 타이머
-    private float moveSendTimer = 0f;
-    private static final float MOVE_SEND_INTERVAL = 0.02f;  // ★ 20ms = 50fps (33ms → 20ms)
+    // ★ 이동 전송 시점 (방향·상태 변화 / 예측 오차 / keyframe, 혼잡하면 늦춤)
+    private final MoveSendPolicy moveSend = new MoveSendPolicy(Net.get());
+    
+    // ★ 이동 충돌 계산용 재사용 값 + 원격 추측 항법도 같은 규칙으로
+    private final Rectangle stepHb = new Rectangle();
+    private final Vector2 stepOut = new Vector2();
+    private final Player.MoveResolver moveResolver = this::stepMove;
     
     // ★ 이전 프레임 이동 상태 (정지 메시지 전송용)
     private boolean wasMovingLastFrame = false;
@@ -177,7 +186,10 @@ public class LobbyScreen implements Screen {
         // ★ 바닥 전체 영역에서 이동 가능
         floorArea = new Rectangle(0, 0, targetWidth, floorHeight);
 
-        Gdx.app.log("FLOOR", "floor area: " + floorArea);
+        Log.info("FLOOR", "floor area: {}", floorArea);
+        
+        // ★ 이동 좌표 양자화 기준
+        Net.get().setMoveArea(floorArea.x, floorArea.y, floorArea.width, floorArea.height);
     }
     
     // ========== UI 설정 ==========
@@ -223,44 +235,31 @@ public class LobbyScreen implements Screen {
         Net.get().setListener(new Net.Listener() {
             // ★★★ 수정: dx, dy 파라미터 추가 및 moveOther 호출 ★★★
             @Override
-            public void onPlayerMove(String playerId, float dx, float dy, float x, float y) {
-                Player p = players.get(playerId);
+            public void onPlayerMoveSlot(int slot, String playerId, float dx, float dy, float x, float y) {
+                Player p = playerBySlot(slot, playerId);
                 if (p != null && !playerId.equals(myPlayerId)) {
                     p.moveOther(dx, dy, x, y);  // ★ 애니메이션 포함 이동
-                    Gdx.app.log("LOBBY", "Player moved: " + playerId + " dx=" + dx + " dy=" + dy);
+                    // ★ 매 틱 로그 → MOVE 태그 (기본 꺼짐, 켜도 샘플링)
+                    if (Log.isDebug("MOVE")) Log.debug("MOVE", "Player moved: {} dx={} dy={}", playerId, dx, dy);
                 }
             }
 
             @Override
-            public void onGameStart(String roleJson) {
-                Gdx.app.log("LOBBY", "게임 시작! roleJson=" + roleJson);
-                
-                // ★ roleJson 파싱해서 역할 정보 추출
-                Map<String, PlayerRole> roles = new HashMap<>();
+            public void onGameStart(GameStart start) {
+                Log.info("LOBBY", "게임 시작! 역할 {}명", start.roles.size());
                 
-                try {
-                    com.google.gson.JsonObject jo = com.google.gson.JsonParser.parseString(roleJson).getAsJsonObject();
-                    
-                    if (jo.has("roles")) {
-                        com.google.gson.JsonObject rolesObj = jo.getAsJsonObject("roles");
-                        for (String playerId : rolesObj.keySet()) {
-                            String roleStr = rolesObj.get(playerId).getAsString();
-                            PlayerRole role = "CHASER".equalsIgnoreCase(roleStr) ? PlayerRole.CHASER : PlayerRole.RUNNER;
-                            roles.put(playerId, role);
-                            Gdx.app.log("LOBBY", "역할 배정: " + playerId + " → " + role);
-                        }
-                    }
-                } catch (Exception e) {
-                    Gdx.app.error("LOBBY", "역할 파싱 실패: " + e.getMessage());
+                // ★ 역할은 Net에서 이미 해석됨 (JSON 재파싱 없음)
+                for (Map.Entry<String, PlayerRole> entry : start.roles.entrySet()) {
+                    Log.info("LOBBY", "역할 배정: {} → {}", entry.getKey(), entry.getValue());
                 }
                 
-                // ★ GameScreen으로 이동 (역할 정보 전달)
-                app.setScreen(new GameScreen(app, roles));
+                // ★ GameScreen으로 이동 (역할 / 스폰 / 시간 전달)
+                app.setScreen(new GameScreen(app, start));
             }
 
             @Override
             public void onPlayerReady(String playerId, boolean isReady) {
-                Gdx.app.log("LOBBY", "Player ready: " + playerId + " = " + isReady);
+                Log.info("LOBBY", "Player ready: {} = {}", playerId, isReady);
                 
                 // ★ 서버가 Ready를 지원함을 확인
                 serverSupportsReady = true;
@@ -272,7 +271,7 @@ public class LobbyScreen implements Screen {
 
             @Override
             public void onPlayerJoined(String playerId, float x, float y) {
-                Gdx.app.log("LOBBY", "Player joined: " + playerId + " at (" + x + ", " + y + ")");
+                Log.info("LOBBY", "Player joined: {} at ({}, {})", playerId, x, y);
                 
                 // ★ 이미 있는 플레이어면 무시
                 if (players.containsKey(playerId)) {
@@ -286,10 +285,11 @@ public class LobbyScreen implements Screen {
 
             @Override
             public void onPlayerLeft(String playerId) {
-                Gdx.app.log("LOBBY", "Player left: " + playerId);
+                Log.info("LOBBY", "Player left: {}", playerId);
                 
                 // ★ 플레이어 제거
                 Player p = players.remove(playerId);
+                if (p != null) clearSlot(p);
                 if (p != null && p.getImage() != null) {
                     p.getImage().remove();  // 화면에서 제거
                 }
@@ -299,6 +299,23 @@ public class LobbyScreen implements Screen {
         });
     }
 
+    // ★ 슬롯 번호로 플레이어 조회 (처음 한 번만 맵 조회 후 배열에 캐시)
+    private Player playerBySlot(int slot, String playerId) {
+        if (!SlotTable.isValid(slot)) return players.get(playerId);
+        Player p = playersBySlot[slot];
+        if (p == null || !p.getPlayerId().equals(playerId)) {  // 빈 슬롯 또는 재배정된 슬롯
+            p = players.get(playerId);
+            playersBySlot[slot] = p;
+        }
+        return p;
+    }
+
+    private void clearSlot(Player player) {
+        for (int i = 0; i < playersBySlot.length; i++) {
+            if (playersBySlot[i] == player) playersBySlot[i] = null;
+        }
+    }
+
     // ========== 테스트용 플레이어 생성 ==========
     private void createTestPlayer() {
         // ★ Preferences에서 닉네임 가져오기
@@ -318,7 +335,7 @@ public class LobbyScreen implements Screen {
         if (me != null) {
             Vector2 pos = me.getPosition();
             Net.get().sendPlayerMove(myPlayerId, 0, 0, pos.x, pos.y);
-            Gdx.app.log("LOBBY", "초기 위치 전송: " + pos.x + ", " + pos.y);
+            Log.info("LOBBY", "초기 위치 전송: {}, {}", pos.x, pos.y);
         }
 
         // UI 업데이트
@@ -403,6 +420,7 @@ public class LobbyScreen implements Screen {
         Player player = new Player(playerId, PlayerRole.RUNNER, playerImage);
         player.setPosition(playerImage.getX(), playerImage.getY());
         player.setNickname(playerId);  // ★ 닉네임 설정
+        player.setMoveResolver(moveResolver);  // 원격이면 추측 항법이 바닥 / 다른 플레이어를 뚫지 않게
 
         // 애니메이션 설정
         Array<TextureRegion> rightFrames = new Array<>();
@@ -425,13 +443,13 @@ public class LobbyScreen implements Screen {
         }
         readyStatus.put(playerId, initialReady);
         
-        Gdx.app.log("LOBBY", "Player added: " + playerId + " at (" + posX + ", " + posY + ") Ready=" + initialReady + " (total: " + players.size() + ")");
+        Log.info("LOBBY", "Player added: {} at ({}, {}) Ready={} (total: {})", playerId, posX, posY, initialReady, players.size());
     }
     
     // ★★★ 추가: 서버에서 받은 플레이어들 생성 ★★★
     private void createPlayersFromServer() {
         if (initialPositions == null || initialPositions.isEmpty()) {
-            Gdx.app.log("LOBBY", "No initial players from server");
+            Log.info("LOBBY", "No initial players from server");
             return;
         }
         
@@ -468,12 +486,10 @@ public class LobbyScreen implements Screen {
             movePlayer(me, dx, dy, delta);
             
             // ★★★ 수정: 로비에서도 이동 서버 전송 ★★★
-            moveSendTimer += delta;
-            if (moveSendTimer >= MOVE_SEND_INTERVAL) {
-                float x = me.getPosition().x;
-                float y = me.getPosition().y;
-                Net.get().sendPlayerMove(myPlayerId, dx, dy, x, y);
-                moveSendTimer = 0f;
+            float x = me.getPosition().x;
+            float y = me.getPosition().y;
+            if (moveSend.update(delta, dx, dy, x, y, me.getSpeed(), me.getState().ordinal())) {
+                Net.get().sendPlayerMove(myPlayerId, moveSend.getDx(), moveSend.getDy(), x, y);
             }
             wasMovingLastFrame = true;  // ★ 이동 중 플래그
         } else {
@@ -484,11 +500,10 @@ public class LobbyScreen implements Screen {
                 float x = me.getPosition().x;
                 float y = me.getPosition().y;
                 Net.get().sendPlayerMove(myPlayerId, 0, 0, x, y);  // dx=0, dy=0으로 정지 알림
-                Gdx.app.log("LOBBY", "정지 메시지 전송: " + myPlayerId);
+                Log.info("LOBBY", "정지 메시지 전송: {}", myPlayerId);
                 wasMovingLastFrame = false;
+                moveSend.reset();
             }
-            
-            moveSendTimer = 0f;
         }
         
         me.update(delta);
@@ -502,47 +517,56 @@ public class LobbyScreen implements Screen {
             dy /= len;
         }
 
-        float speed = player.getSpeed();
-        float vx = dx * speed * delta;
-        float vy = dy * speed * delta;
+        Image img = player.getImage();
+        float origX = img.getX();
+        float origY = img.getY();
+        stepMove(player, origX, origY, dx, dy, player.getSpeed() * delta, stepOut);
+        float nx = stepOut.x, ny = stepOut.y;
+        
+        // 위치 적용
+        player.setPosition(nx, ny);
+        
+        // 방향 설정
+        if (nx != origX || ny != origY) {
+            player.updateDirection(dx, dy);
+        } else {
+            player.stopMoving();
+        }
+    }
+    
+    // ★ 이동 한 스텝 (바닥 영역 + 다른 플레이어 충돌) → out에 결과 위치
+    //   내 이동과 원격 추측 항법(Player.MoveResolver)이 같이 씀
+    private void stepMove(Player player, float x, float y, float dx, float dy, float dist, Vector2 out) {
+        float len = (float) Math.sqrt(dx * dx + dy * dy);
+        if (len > 0f) {
+            dx /= len;
+            dy /= len;
+        }
 
         Image img = player.getImage();
         float w = img.getWidth(), h = img.getHeight();
         float px = w * HERO_PAD, py = h * HERO_PAD;
         float hbW = w - 2f * px, hbH = h - 2f * py;
-        
-        float origX = img.getX();
-        float origY = img.getY();
 
         // ★ X축 이동 시도
-        float nx = origX + vx;
-        Rectangle hb = new Rectangle(nx + px, origY + py, hbW, hbH);
+        float nx = x + dx * dist;
+        stepHb.set(nx + px, y + py, hbW, hbH);
         
         // X축 충돌 체크 (바닥 영역 + 다른 플레이어)
-        if (!isInFloorArea(hb) || collideWithPlayer(player, hb) != null) {
-            nx = origX;  // 충돌 시 X 이동 취소
+        if (!isInFloorArea(stepHb) || collideWithPlayer(player, stepHb) != null) {
+            nx = x;  // 충돌 시 X 이동 취소
         }
 
         // ★ Y축 이동 시도
-        float ny = origY + vy;
-        hb = new Rectangle(nx + px, ny + py, hbW, hbH);
+        float ny = y + dy * dist;
+        stepHb.set(nx + px, ny + py, hbW, hbH);
         
         // Y축 충돌 체크 (바닥 영역 + 다른 플레이어)
-        if (!isInFloorArea(hb) || collideWithPlayer(player, hb) != null) {
-            ny = origY;  // 충돌 시 Y 이동 취소
+        if (!isInFloorArea(stepHb) || collideWithPlayer(player, stepHb) != null) {
+            ny = y;  // 충돌 시 Y 이동 취소
         }
         
-        // 위치 적용
-        img.setX(nx);
-        img.setY(ny);
-        player.setPosition(nx, ny);
-        
-        // 방향 설정
-        if (nx != origX || ny != origY) {
-            player.updateDirection(dx, dy);
-        } else {
-            player.stopMoving();
-        }
+        out.set(nx, ny);
     }
     
     // ★ 바닥 영역 체크 (히트박스 기준)
@@ -607,7 +631,7 @@ public class LobbyScreen implements Screen {
             boolean newReady = !currentReady;
             readyStatus.put(myPlayerId, newReady);
             
-            Gdx.app.log("LOBBY", "Ready: " + newReady);
+            Log.info("LOBBY", "Ready: {}", newReady);
             
             // ★★★ 수정: sendReady 호출 활성화 ★★★
             Net.get().sendReady(myPlayerId, newReady);
@@ -636,23 +660,23 @@ public class LobbyScreen implements Screen {
             }
 
             if (!allReady) {
-                Gdx.app.log("LOBBY", "모든 플레이어가 준비되지 않았습니다.");
+                Log.info("LOBBY", "모든 플레이어가 준비되지 않았습니다.");
                 return;
             }
             
             // 4명 체크 (옵션)
             if (totalPlayers < 4) {
-                Gdx.app.log("LOBBY", "플레이어가 4명 미만입니다. (현재 " + totalPlayers + "명)");
+                Log.info("LOBBY", "플레이어가 4명 미만입니다. (현재 {}명)", totalPlayers);
                 // return; // 4명 강제하려면 주석 해제
             }
         }
 
         // ★ 서버가 Ready 미지원 또는 모두 Ready → 게임 시작
         if (players.size() >= 1) {
-            Gdx.app.log("LOBBY", "게임 시작 요청!");
+            Log.info("LOBBY", "게임 시작 요청!");
             Net.get().sendGameStart(roomId);
         } else {
-            Gdx.app.log("LOBBY", "플레이어가 없습니다.");
+            Log.info("LOBBY", "플레이어가 없습니다.");
         }
     }
 
@@ -665,7 +689,7 @@ public class LobbyScreen implements Screen {
             }
         }
 
-        Gdx.app.log("LOBBY", "Ready count: " + readyCount);
+        Log.info("LOBBY", "Ready count: {}", readyCount);
 
         Texture tex = texNumberCheck0;
 
@@ -712,7 +736,7 @@ public class LobbyScreen implements Screen {
     public void show() {
         // ★ 화면 활성화 시 리스너 재설정 (hide()에서 null로 설정되기 때문)
         setupNetworkListener();
-        Gdx.app.log("LOBBY", "Screen shown, listener reset!");
+        Log.info("LOBBY", "Screen shown, listener reset!");
     }
 
     @Override
@@ -785,6 +809,7 @@ public class LobbyScreen implements Screen {
 
     @Override
     public void hide() {
+        Log.info("LOBBY", "Move send: {}", moveSend.report());
         // 리스너 해제
         Net.get().setListener(null);
     }
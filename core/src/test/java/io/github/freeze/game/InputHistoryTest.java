@@ -0,0 +1,101 @@
+package io.github.freeze.game;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InputHistoryTest {
+    private static final float SPEED = 300f;
+    private static final float WALL_X = 40f;
+
+    // 오른쪽 벽만 있는 이동 규칙 (막히면 벽에 붙음)
+    private static final Player.MoveResolver WALLED = (player, x, y, dx, dy, dist, out) -> {
+        out.set(Math.min(x + dx * dist, WALL_X), y + dy * dist);
+    };
+
+    @Test
+    public void ackHandlesSeqWraparound() {
+        InputHistory h = new InputHistory(8, Integer.MAX_VALUE - 1);
+        h.record(1f, 0f, SPEED);  // MAX - 1
+        h.record(1f, 0f, SPEED);  // MAX
+        h.record(0f, 1f, SPEED);  // MIN
+        h.record(0f, -1f, SPEED); // MIN + 1
+        assertEquals(Integer.MIN_VALUE + 1, h.lastSeq());
+
+        h.ack(Integer.MAX_VALUE);  // 순환 전 것만
+        assertEquals(2, h.size());
+        h.ack(Integer.MIN_VALUE);
+        assertEquals(1, h.size());
+        assertEquals(-1f, h.dy(0), 0f);
+    }
+
+    @Test
+    public void overflowDropsOldestInput() {
+        InputHistory h = new InputHistory(4);
+        for (int i = 1; i <= 6; i++) h.record(i, 0f, SPEED);
+        assertEquals(4, h.size());
+        assertEquals(3f, h.dx(0), 0f);  // 1, 2는 버려짐
+        assertEquals(6f, h.dx(3), 0f);
+
+        h.ack(2);  // 이미 버린 것 → 변화 없음
+        assertEquals(4, h.size());
+        h.ack(4);
+        assertEquals(2, h.size());
+        assertEquals(5f, h.dx(0), 0f);
+    }
+
+    @Test
+    public void groupsStepsIntoRuns() {
+        InputHistory h = new InputHistory(16);
+        assertTrue(h.differsFromLast(1f, 0f, SPEED));  // 처음
+        h.record(1f, 0f, SPEED);
+        assertFalse(h.differsFromLast(1f, 0f, SPEED));
+        h.record(1f, 0f, SPEED);
+        assertEquals(2, h.runLength());
+        assertTrue(h.differsFromLast(0f, 1f, SPEED));        // 방향 바뀜
+        assertTrue(h.differsFromLast(1f, 0f, SPEED * 2f));   // 속도 바뀜 (대시)
+
+        h.closeRun();  // 보냄 → 같은 방향이면 이어서 새 구간
+        assertEquals(0, h.runLength());
+        assertFalse(h.differsFromLast(1f, 0f, SPEED));
+        h.record(1f, 0f, SPEED);
+        assertEquals(1, h.runLength());
+
+        h.breakRun();  // 멈춤 → 같은 방향이어도 새로 시작
+        assertEquals(0, h.runLength());
+        assertTrue(h.differsFromLast(1f, 0f, SPEED));
+        assertEquals(3, h.size());  // 기록은 그대로 (확인 전까지)
+    }
+
+    @Test
+    public void replayFromServerPositionReproducesPrediction() {
+        InputHistory h = new InputHistory(64);
+        Vector2 pos = new Vector2();
+        Vector2 serverPos = new Vector2();
+        int serverSeq = 12;
+
+        // 클라 예측: 오른쪽으로 가다 벽에 막히고 위아래로
+        for (int i = 0; i < 30; i++) {
+            float dx = i < 20 ? 1f : 0f;
+            float dy = i < 20 ? 0f : (i < 25 ? 1f : -1f);
+            int seq = h.record(dx, dy, SPEED);
+            WALLED.step(null, pos.x, pos.y, dx, dy, SPEED * InputHistory.STEP, pos);
+            if (seq == serverSeq) serverPos.set(pos);  // 서버도 같은 규칙으로 seq까지 처리
+        }
+
+        h.ack(serverSeq);
+        assertEquals(30 - serverSeq, h.size());
+        Vector2 out = new Vector2();
+        h.replay(null, serverPos.x, serverPos.y, WALLED, out);
+        assertEquals(pos.x, out.x, 1e-3f);
+        assertEquals(pos.y, out.y, 1e-3f);
+
+        // 서버 위치가 다르면 그 위치에서 다시 적용한 결과 (보정)
+        h.replay(null, serverPos.x - 10f, serverPos.y, WALLED, out);
+        assertEquals(WALL_X, out.x, 1e-3f);  // 남은 오른쪽 입력으로 다시 벽까지
+        assertEquals(pos.y, out.y, 1e-3f);
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.freeze.game;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * 원격 플레이어 추측 항법 (moveOther 사이 진행 / 멈춤 / 다음 업데이트로 보정)
+ * - 텍스처 없는 빈 영역으로 그래픽 없이 생성
+ */
+public class PlayerTest {
+    private static final float SPEED = 380f;  // 기본 이동 속도
+    private static final float DT = 0.25f;    // 2진수로 정확한 프레임 시간
+
+    private Player remote;
+
+    @Before
+    public void setUp() {
+        remote = new Player("p2", PlayerRole.RUNNER, new Image(new TextureRegionDrawable(new TextureRegion())));
+        Animation<TextureRegion> walk = new Animation<>(0.1f, new TextureRegion());
+        remote.setWalkAnimations(walk, walk);
+    }
+
+    @Test
+    public void stepsWithLastDirection() {
+        remote.moveOther(1f, 0f, 100f, 100f);
+        assertEquals(100f, remote.getPosition().x, 0f);
+
+        remote.update(DT);
+        assertEquals(100f + SPEED * DT, remote.getPosition().x, 1e-3f);
+        assertEquals(100f, remote.getPosition().y, 0f);
+        assertTrue(remote.isMoving());
+
+        remote.setSpeedScale(1.5f);  // 화면 보정 배율은 원격 예측에만
+        remote.update(DT);
+        assertEquals(100f + SPEED * DT * 2.5f, remote.getPosition().x, 1e-3f);
+        assertEquals(SPEED, remote.getSpeed(), 0f);
+    }
+
+    @Test
+    public void stopsAfterMaxExtrapolation() {
+        remote.moveOther(0f, 1f, 0f, 0f);
+        for (int i = 0; i < 4; i++) remote.update(DT);  // 1초까지는 진행
+        float reached = remote.getPosition().y;
+        assertEquals(SPEED, reached, 1e-3f);
+
+        remote.update(DT);
+        remote.update(DT);
+        assertEquals(reached, remote.getPosition().y, 0f);  // 업데이트가 끊김 → 제자리 대기
+        assertFalse(remote.isMoving());
+    }
+
+    @Test
+    public void convergesToNextUpdate() {
+        remote.moveOther(1f, 0f, 100f, 100f);
+        remote.update(DT);
+        float drawn = remote.getPosition().x;
+
+        // 서버가 조금 뒤에 있었음 → 바로 뛰지 않고 따라감
+        remote.moveOther(1f, 0f, drawn - 20f, 100f);
+        assertEquals(drawn, remote.getPosition().x, 1e-3f);
+        remote.update(DT);
+        float predicted = drawn - 20f + SPEED * DT;
+        float error = Math.abs(remote.getPosition().x - predicted);
+        assertTrue(error > 0f && error < 20f);
+        for (int i = 0; i < 2; i++) remote.update(DT);
+        assertEquals(drawn - 20f + SPEED * DT * 3f, remote.getPosition().x, 0.01f);
+    }
+
+    @Test
+    public void snapsWhenTooFarOff() {
+        remote.moveOther(1f, 0f, 100f, 100f);
+        remote.update(DT);
+        remote.moveOther(0f, 0f, 900f, 100f);  // 순간이동
+        assertEquals(900f, remote.getPosition().x, 0f);
+        remote.update(DT);
+        assertEquals(900f, remote.getPosition().x, 0f);  // 정지 → 더 안 감
+    }
+
+    @Test
+    public void blockedResolverStopsWalking() {
+        remote.setMoveResolver((player, x, y, dx, dy, dist, out) -> out.set(x, y));  // 벽
+        remote.moveOther(1f, 0f, 100f, 100f);
+        remote.update(DT);
+        assertEquals(100f, remote.getPosition().x, 0f);
+        assertFalse(remote.isMoving());
+    }
+}
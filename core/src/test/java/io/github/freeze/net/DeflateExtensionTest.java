@@ -0,0 +1,81 @@
+package io.github.freeze.net;
+
+import org.java_websocket.extensions.permessage_deflate.PerMessageDeflateExtension;
+import org.java_websocket.framing.TextFrame;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DeflateExtensionTest {
+    private static final int THRESHOLD = 256;
+
+    @Test
+    public void reusedBufferRoundTripsThroughStockInflater() throws Exception {
+        CompressionStats stats = new CompressionStats();
+        DeflateExtension out = new DeflateExtension(THRESHOLD, stats);
+        PerMessageDeflateExtension in = new PerMessageDeflateExtension();
+
+        // 기본 기준(1024)보다 작고 우리 기준보다 큰 메시지 → 압축돼야 함
+        byte[] payload = snapshot(700);
+        TextFrame frame = framed(payload, 2048);
+        out.encodeFrame(frame);
+        assertTrue(frame.isRSV1());
+        assertTrue(frame.getPayloadData().remaining() < payload.length);
+
+        in.decodeFrame(frame);
+        assertArrayEquals(payload, remaining(frame));
+
+        assertEquals(1L, stats.outCompressed.get());
+        assertEquals(payload.length, stats.getOutRawBytes());
+    }
+
+    @Test
+    public void smallFramesAreLeftAlone() throws Exception {
+        CompressionStats stats = new CompressionStats();
+        DeflateExtension out = new DeflateExtension(THRESHOLD, stats);
+
+        byte[] payload = "{\"type\":\"move\",\"data\":{\"dx\":1}}".getBytes(StandardCharsets.UTF_8);
+        TextFrame frame = framed(payload, 1024);
+        out.encodeFrame(frame);
+        assertFalse(frame.isRSV1());
+        assertArrayEquals(payload, remaining(frame));
+
+        assertEquals(1L, stats.outFrames.get());
+        assertEquals(0L, stats.outCompressed.get());
+        assertEquals(stats.getOutRawBytes(), stats.getOutWireBytes());
+    }
+
+    // 더 큰 재사용 버퍼 앞부분에 담긴 메시지 (뒤쪽은 이전 메시지 찌꺼기)
+    private static TextFrame framed(byte[] payload, int capacity) {
+        byte[] slot = new byte[capacity];
+        Arrays.fill(slot, (byte) 'Z');
+        System.arraycopy(payload, 0, slot, 0, payload.length);
+        TextFrame frame = new TextFrame();
+        frame.setPayload(ByteBuffer.wrap(slot, 0, payload.length));
+        return frame;
+    }
+
+    private static byte[] snapshot(int size) {
+        StringBuilder sb = new StringBuilder("{\"type\":\"worldSnapshot\",\"players\":[");
+        for (int i = 0; sb.length() < size - 2; i++) {
+            sb.append("{\"id\":\"p").append(i % 10).append("\",\"x\":").append(100 + i).append("},");
+        }
+        sb.setLength(size - 2);
+        sb.append("]}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] remaining(TextFrame frame) {
+        ByteBuffer b = frame.getPayloadData().duplicate();
+        byte[] out = new byte[b.remaining()];
+        b.get(out);
+        return out;
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.freeze.net;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DeltaMoveCodecTest {
+    private static final float AREA_W = 2560f, AREA_H = 1440f;
+    private static final float STEP = AREA_W / 0xFFFF;  // 양자화 한 칸
+
+    private final DeltaMoveCodec sender = new DeltaMoveCodec();
+    private final DeltaMoveCodec receiver = new DeltaMoveCodec();
+    private final ByteBuffer buf = ByteBuffer.allocate(DeltaMoveCodec.MAX_FRAME);
+    private final MoveCodec.Move out = new MoveCodec.Move();
+
+    @Before
+    public void setUp() {
+        sender.setArea(0f, 0f, AREA_W, AREA_H);
+        receiver.setArea(0f, 0f, AREA_W, AREA_H);
+    }
+
+    @Test
+    public void keyframeThenDeltaRoundTrip() {
+        ByteBuffer key = send(3, 1f, 0f, 100f, 200f);
+        assertEquals(3 + 1 + 1 + 2 + 2, key.remaining());  // 모든 필드
+        assertTrue(receiver.decode(key, out));
+        assertEquals(3, out.slot);
+        assertNull(out.playerId);
+        assertEquals(1f, out.dx, 0f);
+        assertEquals(0f, out.dy, 0f);
+        assertEquals(100f, out.x, STEP);
+        assertEquals(200f, out.y, STEP);
+
+        ByteBuffer delta = send(3, 1f, 0f, 110f, 200f);  // x만 바뀜
+        assertEquals(3 + 1 + 2, delta.remaining());
+        assertTrue(receiver.decode(delta, out));
+        assertEquals(110f, out.x, STEP);
+        assertEquals(200f, out.y, STEP);  // 생략 → 마지막 값
+        assertEquals(1f, out.dx, 0f);
+    }
+
+    @Test
+    public void deltaBeforeKeyframeIsDropped() {
+        send(3, 1f, 0f, 100f, 200f);  // 받는 쪽이 놓친 키프레임
+        assertFalse(receiver.decode(send(3, 1f, 0f, 110f, 200f), out));
+
+        sender.forceKeyframe();
+        assertTrue(receiver.decode(send(3, 0f, 1f, 120f, 210f), out));
+        assertEquals(120f, out.x, STEP);
+        assertEquals(1f, out.dy, 0f);
+    }
+
+    @Test
+    public void idFramesKeepSeparateBaselines() {
+        byte[] a = "a".getBytes(), b = "bb".getBytes();
+        assertTrue(receiver.decode(sender.encode(buf, DeltaMoveCodec.OP_PLAYER_MOVED_DELTA, SlotTable.NONE, a,
+                1f, 0f, 10f, 10f), out));
+        assertEquals("a", out.playerId);
+        assertEquals(SlotTable.NONE, out.slot);
+
+        DeltaMoveCodec other = new DeltaMoveCodec();
+        other.setArea(0f, 0f, AREA_W, AREA_H);
+        assertTrue(receiver.decode(other.encode(buf, DeltaMoveCodec.OP_PLAYER_MOVED_DELTA, SlotTable.NONE, b,
+                -1f, 0f, 50f, 60f), out));
+        assertEquals("bb", out.playerId);
+        assertEquals(-1f, out.dx, 0f);
+        assertEquals(50f, out.x, STEP);
+    }
+
+    @Test
+    public void sequenceWrapsWithoutGaps() {
+        for (int i = 0; i < 600; i++) {
+            assertTrue(receiver.decode(send(1, 1f, 0f, i, 0f), out));
+            assertEquals(i, out.x, STEP);
+        }
+        assertEquals(0, receiver.getGaps());
+    }
+
+    @Test
+    public void lostFrameCountsAsGap() {
+        receiver.decode(send(1, 1f, 0f, 1f, 0f), out);
+        send(1, 1f, 0f, 2f, 0f);  // 유실
+        assertTrue(receiver.decode(send(1, 1f, 0f, 3f, 0f), out));
+        assertEquals(1, receiver.getGaps());
+    }
+
+    @Test
+    public void positionsClampToArea() {
+        assertTrue(receiver.decode(send(2, 0f, 0f, -500f, AREA_H + 500f), out));
+        assertEquals(0f, out.x, 0f);
+        assertEquals(AREA_H, out.y, 0f);
+        assertEquals(0, DeltaMoveCodec.quantize(5f, 0f, 0f));  // 영역 없음
+    }
+
+    @Test
+    public void directionKeepsOnlySign() {
+        assertTrue(receiver.decode(send(2, 0.3f, -0.7f, 0f, 0f), out));
+        assertEquals(1f, out.dx, 0f);
+        assertEquals(-1f, out.dy, 0f);
+    }
+
+    @Test
+    public void setAreaRestartsFromKeyframe() {
+        receiver.decode(send(1, 1f, 0f, 10f, 10f), out);
+        sender.setArea(0f, 0f, AREA_W, AREA_H);
+        ByteBuffer frame = send(1, 1f, 0f, 10f, 10f);  // 바뀐 게 없어도 키프레임
+        assertEquals(3 + 1 + 1 + 2 + 2, frame.remaining());
+    }
+
+    @Test
+    public void rejectsTruncatedFrame() {
+        ByteBuffer key = send(1, 1f, 0f, 10f, 10f);
+        key.limit(key.limit() - 1);
+        assertFalse(receiver.decode(key, out));
+    }
+
+    private ByteBuffer send(int slot, float dx, float dy, float x, float y) {
+        return sender.encode(buf, DeltaMoveCodec.OP_PLAYER_MOVED_DELTA, slot, null, dx, dy, x, y);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.freeze.net;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * 예전 Gson 직렬화 (HashMap payload)와 같은 JSON인지 비교
+ * - 필드 순서는 달라도 됨 → 해석한 트리끼리 비교
+ */
+public class MessageWriterTest {
+    private static final String[] CAPS = {"bin1", "slot1"};
+
+    private final MessageWriter writer = new MessageWriter();
+    private final Gson gson = new Gson();
+
+    @Test
+    public void createRoomOmitsNullPassword() {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("code", "ROOM");
+        payload.put("title", "제목 \"1\"");
+        payload.put("password", null);
+        payload.put("playerId", "p1");
+        payload.put("caps", Arrays.asList(CAPS));
+        assertMatchesGson("createRoom", payload, writer.createRoom("ROOM", "제목 \"1\"", null, "p1", CAPS));
+    }
+
+    @Test
+    public void joinOmitsNullFields() {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("roomId", "ROOM");
+        payload.put("playerId", null);
+        payload.put("caps", Arrays.asList(CAPS));
+        assertMatchesGson("join", payload, writer.join("ROOM", null, CAPS));
+    }
+
+    @Test
+    public void leaveOmitsNullFields() {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("roomId", null);
+        payload.put("playerId", "p1");
+        assertMatchesGson("leave", payload, writer.leave(null, "p1"));
+
+        payload.put("playerId", null);
+        assertMatchesGson("leave", payload, writer.leave(null, null));  // 빈 payload
+    }
+
+    @Test
+    public void moveMatchesGson() {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("playerId", "p1");
+        payload.put("dx", 1f);
+        payload.put("dy", -0.5f);
+        payload.put("x", 100.25f);
+        payload.put("y", 200f);
+        assertMatchesGson("move", payload, writer.move("p1", 1f, -0.5f, 100.25f, 200f));
+    }
+
+    private void assertMatchesGson(String type, Map<String, Object> payload, ByteBuffer written) {
+        Map<String, Object> msg = new HashMap<>();
+        msg.put("type", type);
+        msg.put("payload", payload);
+        JsonElement expected = JsonParser.parseString(gson.toJson(msg));
+        JsonElement actual = JsonParser.parseString(StandardCharsets.UTF_8.decode(written).toString());
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.freeze.net;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MoveCoalescerTest {
+
+    @Test
+    public void keepsLatestMovePerPlayerInArrivalOrder() {
+        MoveCoalescer c = new MoveCoalescer();
+        int gen = c.offer(0, "a", 1f, 0f, 10f, 10f);
+        assertEquals(-1, c.offer(0, "b", 0f, 1f, 20f, 20f));  // 이미 예약됨
+        c.offer(0, "a", -1f, 0f, 11f, 10f);
+        c.offer(3, null, 0f, 0f, 30f, 30f);  // ID 없음 → 슬롯으로 구분
+        c.offer(4, null, 0f, 0f, 40f, 40f);
+
+        MoveCoalescer.Batch b = c.drain(gen);
+        assertEquals(4, b.size());
+        assertEquals("a", b.get(0).playerId);
+        assertEquals(11f, b.get(0).x, 0f);
+        assertEquals("b", b.get(1).playerId);
+        assertEquals(3, b.get(2).slot);
+        assertEquals(4, b.get(3).slot);
+        assertEquals(1, c.getCoalesced());
+        assertTrue(c.isEmpty());
+    }
+
+    @Test
+    public void batchKeepsLatestArrivalMark() {
+        MoveCoalescer c = new MoveCoalescer();
+        c.offer(0, "a", 1f, 0f, 1f, 1f, 3L);
+        c.offer(0, "b", 1f, 0f, 2f, 2f, 7L);
+        c.offer(0, "a", 1f, 0f, 3f, 3f, 5L);  // 덮어써도 묶음 위치는 가장 늦은 도착 기준
+        MoveCoalescer.Batch b = c.seal();
+        assertEquals(7L, b.mark());
+        c.release(b);
+
+        c.offer(0, "a", 1f, 0f, 4f, 4f);
+        c.release(c.seal());  // 봉인 때 새로 받은 묶음 → 다음 모으기는 반환된 b
+        c.offer(0, "a", 1f, 0f, 5f, 5f);
+        MoveCoalescer.Batch reused = c.seal();
+        assertSame(b, reused);
+        assertEquals(0L, reused.mark());  // 반환할 때 초기화
+    }
+
+    @Test
+    public void sealInvalidatesScheduledDrain() {
+        MoveCoalescer c = new MoveCoalescer();
+        int gen = c.offer(0, "a", 1f, 0f, 1f, 1f);
+        MoveCoalescer.Batch sealed = c.seal();
+        assertEquals(1, sealed.size());
+        assertNull(c.drain(gen));  // 봉인된 이동은 이벤트 앞에서 적용됨
+        assertTrue(c.offer(0, "a", 1f, 0f, 2f, 2f) >= 0);  // 새로 예약
+    }
+
+    @Test
+    public void releasedBatchesAndMovesAreReused() {
+        MoveCoalescer c = new MoveCoalescer();
+        c.offer(0, "a", 1f, 0f, 1f, 1f);
+        MoveCoalescer.Batch first = c.seal();
+        MoveCodec.Move move = first.get(0);
+        c.release(first);
+
+        c.offer(0, "b", 1f, 0f, 2f, 2f);  // 두 번째 묶음에 모임
+        c.release(c.seal());
+        c.offer(0, "c", 1f, 0f, 3f, 3f);
+        MoveCoalescer.Batch again = c.seal();
+        assertSame(first, again);
+        assertSame(move, again.get(0));
+        assertEquals("c", again.get(0).playerId);
+    }
+
+    @Test
+    public void steadyStateDoesNotAllocate() {
+        MoveCoalescer c = new MoveCoalescer();
+        String[] ids = {"p1", "p2", "p3", "p4"};
+        cycle(c, ids, 20000);
+
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+        long base0 = mx.getThreadAllocatedBytes(tid);
+        long base1 = mx.getThreadAllocatedBytes(tid);
+        long before = mx.getThreadAllocatedBytes(tid);
+        cycle(c, ids, 5000);
+        long after = mx.getThreadAllocatedBytes(tid);
+        assertEquals(0L, (after - before) - (base1 - base0));
+    }
+
+    // 이동 몇 개 → 봉인 1개가 적용 대기 중인 채로 drain → 둘 다 반환
+    private static void cycle(MoveCoalescer c, String[] ids, int rounds) {
+        for (int r = 0; r < rounds; r++) {
+            int gen = -1;
+            for (String id : ids) {
+                int g = c.offer(0, id, 1f, 0f, r, r);
+                if (g >= 0) gen = g;
+            }
+            MoveCoalescer.Batch sealed = c.seal();
+            for (String id : ids) {
+                int g = c.offer(0, id, 0f, 1f, r, r);
+                if (g >= 0) gen = g;
+            }
+            MoveCoalescer.Batch drained = c.drain(gen);
+            c.release(sealed);
+            c.release(drained);
+        }
+    }
+}
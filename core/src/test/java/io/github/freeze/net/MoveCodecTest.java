@@ -0,0 +1,89 @@
+package io.github.freeze.net;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MoveCodecTest {
+    private final MoveCodec codec = new MoveCodec();
+    private final ByteBuffer buf = ByteBuffer.allocate(MoveCodec.MAX_FRAME);
+    private final MoveCodec.Move out = new MoveCodec.Move();
+
+    @Test
+    public void idFrameRoundTrip() {
+        ByteBuffer frame = codec.encode(buf, MoveCodec.OP_MOVE, "플레이어1", 1f, -1f, 123.125f, 456.5f);
+        assertEquals(MoveCodec.HEADER_SIZE + "플레이어1".getBytes(java.nio.charset.StandardCharsets.UTF_8).length,
+                frame.remaining());
+
+        assertTrue(MoveCodec.decode(frame, out));
+        assertEquals("플레이어1", out.playerId);
+        assertEquals(SlotTable.NONE, out.slot);
+        assertEquals(1f, out.dx, 0f);
+        assertEquals(-1f, out.dy, 0f);
+        assertEquals(123.125f, out.x, 0f);
+        assertEquals(456.5f, out.y, 0f);
+    }
+
+    @Test
+    public void slotFrameRoundTrip() {
+        ByteBuffer frame = codec.encodeSlot(buf, MoveCodec.OP_PLAYER_MOVED_SLOT, 200, 0.5f, 0f, -10.25f, 0f);
+        assertEquals(MoveCodec.SLOT_FRAME_SIZE, frame.remaining());
+
+        assertTrue(MoveCodec.decode(frame, out));
+        assertNull(out.playerId);
+        assertEquals(200, out.slot);
+        assertEquals(0.5f, out.dx, 1f / 127f);
+        assertEquals(-10.25f, out.x, 0f);
+    }
+
+    @Test
+    public void quantizationClampsToRange() {
+        codec.encodeSlot(buf, MoveCodec.OP_MOVE_SLOT, 1, 3f, -3f, 100000f, -100000f);
+        assertTrue(MoveCodec.decode(buf, out));
+        assertEquals(1f, out.dx, 0f);
+        assertEquals(-1f, out.dy, 0f);
+        assertEquals(Short.MAX_VALUE / 8f, out.x, 0f);
+        assertEquals(Short.MIN_VALUE / 8f, out.y, 0f);
+        assertEquals(0.125f, MoveCodec.quantizePos(0.07f) / 8f, 0f);  // 1/8 px 반올림
+    }
+
+    @Test
+    public void rejectsTruncatedAndUnknownFrames() {
+        ByteBuffer frame = codec.encode(buf, MoveCodec.OP_MOVE, "abc", 0f, 0f, 1f, 1f);
+        frame.limit(frame.limit() - 1);  // id 한 바이트 잘림
+        assertFalse(MoveCodec.decode(frame, out));
+
+        ByteBuffer unknown = ByteBuffer.wrap(new byte[] {0x7F, 0, 0, 0, 0, 0, 0, 0});
+        assertFalse(MoveCodec.decode(unknown, out));
+        assertFalse(MoveCodec.decode(ByteBuffer.wrap(new byte[] {MoveCodec.OP_MOVE, 0, 0}), out));
+    }
+
+    @Test
+    public void idBytesAreCached() {
+        byte[] first = codec.idBytes("p1");
+        assertSame(first, codec.idBytes("p1"));
+        assertEquals(0, codec.idBytes(null).length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTooLongId() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i <= MoveCodec.MAX_ID_BYTES; i++) sb.append('x');
+        codec.idBytes(sb.toString());
+    }
+
+    @Test
+    public void tooLongIdDoesNotFit() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i <= MoveCodec.MAX_ID_BYTES; i++) sb.append('x');
+        assertFalse(codec.fitsId(sb.toString()));
+        assertTrue(codec.fitsId("p1"));
+        assertFalse(codec.fitsId(sb.toString()));  // 캐시된 ID가 바뀌어도 판정 유지
+    }
+}
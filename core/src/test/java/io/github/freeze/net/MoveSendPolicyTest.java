@@ -0,0 +1,98 @@
+package io.github.freeze.net;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MoveSendPolicyTest {
+    private static final float FRAME = 0.016f;
+    private static final float SPEED = 100f;
+    private static final int WALK = 0;
+    private static final int DASH = 1;
+
+    // 테스트가 바꾸는 혼잡 신호
+    private int depth;
+    private float rtt;
+
+    private final MoveSendPolicy policy = new MoveSendPolicy(new MoveSendPolicy.Load() {
+        @Override public int outboundDepth() { return depth; }
+        @Override public float rttMillis() { return rtt; }
+    });
+
+    private float x, y;
+
+    @Test
+    public void directionOrStateChangeSendsImmediately() {
+        assertTrue(step(1f, 0f, WALK));   // 첫 이동
+        assertFalse(step(1f, 0f, WALK));  // 그대로 → 기다림
+        assertTrue(step(1f, 1f, WALK));   // 방향 바뀜
+        assertEquals(1f, policy.getDy(), 0f);
+        assertTrue(step(1f, 1f, DASH));   // 상태 바뀜
+    }
+
+    @Test
+    public void skipsWithinMinIntervalEvenWhenFarOff() {
+        assertTrue(step(1f, 0f, WALK));
+        x += 50f;  // 순간이동 (예측과 크게 다름)
+        assertFalse(policy.update(MoveSendPolicy.MIN_INTERVAL / 2f, 1f, 0f, x, y, SPEED, WALK));
+    }
+
+    @Test
+    public void sendsWhenPredictionErrorPassesThreshold() {
+        assertTrue(step(1f, 0f, WALK));
+        for (int i = 0; i < 5; i++) assertFalse(step(1f, 0f, WALK));  // 예측대로 움직임
+
+        x += MoveSendPolicy.DEFAULT_ERROR_THRESHOLD + 1f;  // 예측보다 앞서 감 (속도 변화 등)
+        assertTrue(step(1f, 0f, WALK));
+    }
+
+    @Test
+    public void sendsKeyframeAfterInterval() {
+        assertTrue(step(1f, 0f, WALK));
+        int frames = 0;
+        while (!step(1f, 0f, WALK)) frames++;
+        assertEquals(MoveSendPolicy.DEFAULT_KEYFRAME_INTERVAL, (frames + 1) * FRAME, FRAME);
+    }
+
+    @Test
+    public void backoffRisesWithDepthAndRttThenDecays() {
+        step(1f, 0f, WALK);
+        assertEquals(1f, policy.getBackoff(), 0f);
+
+        depth = 36;  // 8..64의 가운데
+        step(1f, 0f, WALK);
+        assertEquals(1f + 0.5f * (MoveSendPolicy.MAX_BACKOFF - 1f), policy.getBackoff(), 1e-4f);
+
+        rtt = 400f;  // 오를 때는 바로
+        step(1f, 0f, WALK);
+        assertEquals(MoveSendPolicy.MAX_BACKOFF, policy.getBackoff(), 0f);
+
+        depth = 0;
+        rtt = 50f;
+        step(1f, 0f, WALK);
+        float after = policy.getBackoff();
+        assertTrue(after < MoveSendPolicy.MAX_BACKOFF && after > MoveSendPolicy.MAX_BACKOFF - 0.1f);  // 천천히
+        for (int i = 0; i < 600; i++) step(1f, 0f, WALK);
+        assertEquals(1f, policy.getBackoff(), 1e-3f);
+    }
+
+    @Test
+    public void resetForgetsBlockedAxis() {
+        assertTrue(step(1f, 0f, WALK));
+        assertTrue(policy.update(FRAME, 1f, 0f, x, y, SPEED, WALK));  // 제자리 → 막힘, 정지로 보냄
+        assertEquals(0f, policy.getDx(), 0f);
+
+        policy.reset();
+        assertTrue(policy.update(FRAME, 1f, 0f, x, y, SPEED, WALK));  // 다시 출발: 같은 위치여도 막힘 아님
+        assertEquals(1f, policy.getDx(), 0f);
+    }
+
+    // 한 프레임 막힘 없이 이동
+    private boolean step(float dx, float dy, int state) {
+        x += dx * SPEED * FRAME;
+        y += dy * SPEED * FRAME;
+        return policy.update(FRAME, dx, dy, x, y, SPEED, state);
+    }
+}
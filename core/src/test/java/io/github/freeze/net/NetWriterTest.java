@@ -0,0 +1,38 @@
+package io.github.freeze.net;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NetWriterTest {
+
+    @Test
+    public void reliableFramesComeBackWhenDisconnected() {
+        NetWriter w = new NetWriter();
+        w.start();
+        w.offer(utf8("{\"type\":\"ping\"}"), false);
+        w.offerReliable(utf8("{\"type\":\"freeze\"}"), null, null);
+        w.offerReliable(utf8("{\"type\":\"ready\"}"), OfflineQueue.KEY_READY, "p1");
+        assertTrue(w.awaitFlushed(1000L));
+
+        NetWriter.Unsent first = w.pollUnsent();
+        assertEquals("{\"type\":\"freeze\"}", new String(first.json, StandardCharsets.UTF_8));
+        assertNull(first.key());
+
+        NetWriter.Unsent second = w.pollUnsent();
+        assertEquals("{\"type\":\"ready\"}", new String(second.json, StandardCharsets.UTF_8));
+        assertEquals(OfflineQueue.KEY_READY + "p1", second.key());
+
+        assertNull(w.pollUnsent());  // ping은 버려짐
+        assertTrue(w.report().contains("failed=1 returned=2"));
+    }
+
+    private static ByteBuffer utf8(String s) {
+        return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+    }
+}
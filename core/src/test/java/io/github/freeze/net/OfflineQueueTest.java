@@ -0,0 +1,61 @@
+package io.github.freeze.net;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class OfflineQueueTest {
+
+    @Test
+    public void keyedMessageReplacesOlder() {
+        OfflineQueue q = new OfflineQueue();
+        q.add(OfflineQueue.KEY_MOVE + "p1", "m1");
+        q.add(null, "join");
+        q.add(OfflineQueue.KEY_MOVE + "p1", "m2");
+
+        assertEquals("join", q.poll());
+        assertEquals("m2", q.poll());
+        assertNull(q.poll());
+        assertEquals(1, q.getSuperseded());
+    }
+
+    @Test
+    public void capacityEvictsOnlyKeyed() {
+        OfflineQueue q = new OfflineQueue(2, 60000L);
+        q.add(null, "createRoom");
+        q.add(OfflineQueue.KEY_MOVE + "p1", "m1");
+        q.add(null, "freeze");
+        q.add(OfflineQueue.KEY_MOVE + "p2", "m2");
+        q.add(OfflineQueue.KEY_READY + "p1", "ready");  // m1이 밀려남
+
+        assertEquals("createRoom", q.poll());
+        assertEquals("freeze", q.poll());
+        assertEquals("m2", q.poll());
+        assertEquals("ready", q.poll());
+        assertNull(q.poll());
+        assertEquals(1, q.getDropped());
+    }
+
+    @Test
+    public void unkeyedBeyondCapacityAreKept() {
+        OfflineQueue q = new OfflineQueue(2, 60000L);
+        for (int i = 0; i < 10; i++) q.add(null, "skill" + i);
+
+        assertEquals(10, q.size());
+        assertEquals("skill0", q.poll());
+        assertEquals(0, q.getDropped());
+    }
+
+    @Test
+    public void ttlExpiresOnlyKeyed() throws Exception {
+        OfflineQueue q = new OfflineQueue(8, 1L);
+        q.add(null, "leave");
+        q.add(OfflineQueue.KEY_MOVE + "p1", "m1");
+        Thread.sleep(5);
+
+        assertEquals("leave", q.poll());
+        assertNull(q.poll());
+        assertEquals(1, q.getDropped());
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.freeze.net;
+
+import org.java_websocket.WebSocket;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * sendPlayerMove 호출 스레드의 할당 측정 (JSON / 바이너리 경로)
+ * - 범위: 인코딩 + 송신 링 복사까지 (호출한 스레드가 하는 일 전부)
+ * - net-writer 스레드의 WebSocket 프레임 전송은 라이브러리가 프레임마다 할당하므로 범위 밖
+ * - 주기 ping은 끔 (ping 프레임은 호출 스레드에서 만들어짐)
+ */
+public class SendAllocationTest {
+    private static final int WARMUP = 20000;
+    private static final int MEASURE = 5000;
+
+    private WebSocketServer server;
+    private Executor executor;
+    private Net net;
+    private volatile String reply;  // createRoom에 대한 서버 응답
+    private volatile String lastMove;  // 마지막으로 받은 JSON 이동
+
+    @Before
+    public void setUp() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        server = new WebSocketServer(new InetSocketAddress("127.0.0.1", 0)) {
+            @Override public void onOpen(WebSocket conn, ClientHandshake h) {}
+            @Override public void onClose(WebSocket conn, int code, String reason, boolean remote) {}
+            @Override public void onError(WebSocket conn, Exception ex) {}
+            @Override public void onStart() { started.countDown(); }
+
+            @Override
+            public void onMessage(WebSocket conn, String msg) {
+                if (reply != null && msg.contains("\"createRoom\"")) conn.send(reply);
+                if (msg.contains("\"move\"")) lastMove = msg;
+            }
+        };
+        server.setReuseAddr(true);
+        server.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // 닫힌 뒤에도 늦은 콜백이 올 수 있으므로 종료하지 않는 데몬 스레드
+        executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "net-test");
+            t.setDaemon(true);
+            return t;
+        });
+        net = new Net(executor);
+        net.setAutoReconnect(false);
+        net.setPingInterval(0f);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        net.close();
+        server.stop(1000);
+    }
+
+    @Test
+    public void jsonMoveDoesNotAllocate() throws Exception {
+        connect(null);
+        assertEquals(0L, measure());
+    }
+
+    @Test
+    public void binaryMoveDoesNotAllocate() throws Exception {
+        connect("{\"type\":\"roomCreated\",\"data\":{\"code\":\"ROOM\"},\"caps\":[\"bin1\"]}");
+        assertTrue(net.hasCap(Caps.BIN_MOVE));
+        assertEquals(0L, measure());
+    }
+
+    @Test
+    public void tooLongIdFallsBackToJson() throws Exception {
+        connect("{\"type\":\"roomCreated\",\"data\":{\"code\":\"ROOM\"},\"caps\":[\"bin1\"]}");
+        StringBuilder id = new StringBuilder();
+        for (int i = 0; i <= MoveCodec.MAX_ID_BYTES; i++) id.append('x');
+
+        net.sendPlayerMove(id.toString(), 1f, 0f, 100f, 200f);
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (lastMove == null && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assertTrue(lastMove.contains(id.toString()));
+    }
+
+    // caps가 있으면 createRoom으로 협상까지 기다림
+    private void connect(String capsReply) throws Exception {
+        reply = capsReply;
+        net.connect("ws://127.0.0.1:" + server.getPort());
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!net.isOpen() && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assertTrue(net.isOpen());
+        if (capsReply == null) return;
+
+        net.sendCreateRoom("ROOM", "title", null, "p1");
+        while (!net.hasCap(Caps.BIN_MOVE) && System.currentTimeMillis() < deadline) Thread.sleep(10);
+    }
+
+    // 워밍업 후 측정 구간의 할당 바이트 (측정 호출 자체의 비용은 뺌)
+    private long measure() {
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+        run(WARMUP);
+
+        long base0 = mx.getThreadAllocatedBytes(tid);
+        long base1 = mx.getThreadAllocatedBytes(tid);
+        long before = mx.getThreadAllocatedBytes(tid);
+        run(MEASURE);
+        long after = mx.getThreadAllocatedBytes(tid);
+        return (after - before) - (base1 - base0);
+    }
+
+    private void run(int count) {
+        for (int i = 0; i < count; i++) {
+            float t = i * 0.01f;
+            net.sendPlayerMove("p1", 1f, 0f, 100f + t, 200.5f - t);
+        }
+    }
+}
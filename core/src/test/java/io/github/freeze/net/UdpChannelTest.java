@@ -0,0 +1,145 @@
+package io.github.freeze.net;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class UdpChannelTest {
+    private static final String TOKEN = "tok";
+
+    private DatagramSocket server;
+    private UdpChannel channel;
+    private SocketAddress client;  // HELLO로 알게 된 클라이언트 주소
+    private final BlockingQueue<float[]> received = new LinkedBlockingQueue<>();
+    private final MoveCodec codec = new MoveCodec();
+
+    @Before
+    public void setUp() throws Exception {
+        server = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+        server.setSoTimeout(2000);
+        channel = new UdpChannel(m -> received.add(new float[] {m.slot, m.x, m.y}));
+        channel.start("127.0.0.1", server.getLocalPort(), TOKEN);
+
+        ByteBuffer hello = receive();
+        assertEquals(UdpChannel.OP_HELLO, hello.get());
+        assertEquals(TOKEN, token(hello));
+        assertFalse(hello.hasRemaining());
+    }
+
+    @After
+    public void tearDown() {
+        channel.stop();
+        server.close();
+    }
+
+    @Test
+    public void helloReplyActivatesChannel() throws Exception {
+        assertFalse(channel.isActive());
+        send(new byte[] {UdpChannel.OP_HELLO});
+        long deadline = System.currentTimeMillis() + 2000L;
+        while (!channel.isActive() && System.currentTimeMillis() < deadline) Thread.sleep(5);
+        assertTrue(channel.isActive());
+    }
+
+    @Test
+    public void moveCarriesTokenSeqAndFrame() throws Exception {
+        ByteBuffer frame = ByteBuffer.allocate(MoveCodec.MAX_FRAME);
+        assertTrue(channel.sendMove(codec.encodeSlot(frame, MoveCodec.OP_MOVE_SLOT, 2, 1f, 0f, 10f, 20f)));
+        assertTrue(channel.sendMove(codec.encodeSlot(frame, MoveCodec.OP_MOVE_SLOT, 2, 1f, 0f, 11f, 20f)));
+
+        for (int seq = 1; seq <= 2; seq++) {
+            ByteBuffer in = receive();
+            assertEquals(UdpChannel.OP_MOVE, in.get());
+            assertEquals(TOKEN, token(in));
+            assertEquals(seq, in.getInt());
+            MoveCodec.Move m = new MoveCodec.Move();
+            assertTrue(MoveCodec.decode(in, m));
+            assertEquals(2, m.slot);
+            assertEquals(9f + seq, m.x, 0f);
+        }
+    }
+
+    @Test
+    public void staleSequenceIsDropped() throws Exception {
+        sendMoved(5, 1f);
+        assertMoved(1f);
+        sendMoved(4, 2f);  // 늦게 온 것
+        sendMoved(5, 3f);  // 중복
+        sendMoved(6, 4f);
+        assertMoved(4f);
+        assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+        assertTrue(channel.report().contains("stale=2"));
+    }
+
+    @Test
+    public void sequenceCompareSurvivesWrap() throws Exception {
+        sendMoved(Integer.MAX_VALUE, 1f);
+        assertMoved(1f);
+        sendMoved(Integer.MIN_VALUE, 2f);  // 순환 → 더 새 것
+        assertMoved(2f);
+        sendMoved(Integer.MAX_VALUE, 3f);  // 순환 전 값 → 오래된 것
+        sendMoved(Integer.MIN_VALUE + 1, 4f);
+        assertMoved(4f);
+        assertTrue(channel.report().contains("stale=1"));
+    }
+
+    @Test
+    public void ignoresUnknownAndTruncatedDatagrams() throws Exception {
+        send(new byte[] {0x7F, 1, 2, 3});
+        send(new byte[] {UdpChannel.OP_PLAYER_MOVED, 0, 0});
+        sendMoved(1, 5f);
+        assertMoved(5f);
+        assertTrue(channel.report().contains("received=1"));
+    }
+
+    // ====== 서버 쪽 흉내 ======
+
+    private void sendMoved(int seq, float x) throws Exception {
+        ByteBuffer out = ByteBuffer.allocate(5 + MoveCodec.SLOT_FRAME_SIZE);
+        out.put(UdpChannel.OP_PLAYER_MOVED);
+        out.putInt(seq);
+        out.put(codec.encodeSlot(ByteBuffer.allocate(MoveCodec.SLOT_FRAME_SIZE), MoveCodec.OP_PLAYER_MOVED_SLOT,
+                7, 1f, 0f, x, 0f));
+        send(out.array());
+    }
+
+    private void assertMoved(float x) throws Exception {
+        float[] m = received.poll(2, TimeUnit.SECONDS);
+        assertNotNull(m);
+        assertEquals(7f, m[0], 0f);
+        assertEquals(x, m[1], 0f);
+    }
+
+    private void send(byte[] data) throws Exception {
+        server.send(new DatagramPacket(data, data.length, client));
+    }
+
+    private ByteBuffer receive() throws Exception {
+        DatagramPacket p = new DatagramPacket(new byte[512], 512);
+        server.receive(p);
+        client = p.getSocketAddress();
+        return ByteBuffer.wrap(p.getData(), 0, p.getLength());
+    }
+
+    private static String token(ByteBuffer in) {
+        byte[] t = new byte[in.get() & 0xFF];
+        in.get(t);
+        return new String(t, StandardCharsets.UTF_8);
+    }
+}